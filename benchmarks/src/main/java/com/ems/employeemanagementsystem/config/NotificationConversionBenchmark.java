@@ -0,0 +1,55 @@
+package com.ems.employeemanagementsystem.config;
+
+import com.ems.employeemanagementsystem.dto.NotificationDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// NotificationDTO <-> AMQP message conversion through RabbitMQConfig.jsonMessageConverter, no broker involved.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationConversionBenchmark {
+
+    private MessageConverter converter;
+    private NotificationDTO notification;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        converter = new RabbitMQConfig().jsonMessageConverter();
+
+        notification = NotificationDTO.builder()
+                .type("LEAVE_STATUS_UPDATED")
+                .employeeName("John Smith")
+                .employeeEmail("john.smith@company.com")
+                .employeeId(42L)
+                .department("Engineering")
+                .leaveStartDate("2024-03-15")
+                .leaveEndDate("2024-03-20")
+                .leaveStatus("APPROVED")
+                .requestId(7L)
+                .purpose("Status update notification")
+                .timestamp(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .build();
+
+        message = converter.toMessage(notification, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message toMessage() {
+        return converter.toMessage(notification, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object fromMessage() {
+        return converter.fromMessage(message);
+    }
+}
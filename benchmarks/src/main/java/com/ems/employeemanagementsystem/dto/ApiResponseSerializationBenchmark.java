@@ -0,0 +1,82 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JSON serialization of the response envelopes returned by GET /api/employees and GET /api/employees/{id}.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    // Same settings the application context applies to its ObjectMapper.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private EmployeeDTO employee;
+
+    @Setup
+    public void setUp() {
+        employee = employee(1L);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(employee, "Employee retrieved successfully"));
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeePage(PageInput input) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(input.page, "Employees retrieved successfully"));
+    }
+
+    @State(Scope.Benchmark)
+    public static class PageInput {
+
+        @Param({"10", "100"})
+        int pageSize;
+
+        Page<EmployeeDTO> page;
+
+        @Setup
+        public void setUp() {
+            List<EmployeeDTO> content = new ArrayList<>(pageSize);
+            for (long i = 1; i <= pageSize; i++) {
+                content.add(employee(i));
+            }
+            page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("fullName").ascending()), 10_000);
+        }
+    }
+
+    private static EmployeeDTO employee(long id) {
+        return EmployeeDTO.builder()
+                .id(id)
+                .fullName("Employee " + id)
+                .email("employee" + id + "@company.com")
+                .departmentId(1 + id % 5)
+                .departmentName("Department " + (1 + id % 5))
+                .salary(new BigDecimal("85000.00").add(BigDecimal.valueOf(id)))
+                .joiningDate(LocalDate.of(2023, 1, 15).plusDays(id))
+                .createdAt(LocalDateTime.of(2023, 1, 15, 9, 30))
+                .updatedAt(LocalDateTime.of(2023, 6, 1, 12, 0))
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ems.employeemanagementsystem.loadtest;
+
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("loadtest")
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class LoadTestConfiguration {
+
+    @Bean
+    @Primary
+    public StubRabbitTemplate stubRabbitTemplate(ConnectionFactory connectionFactory,
+                                                 MessageConverter jsonMessageConverter) {
+        return new StubRabbitTemplate(connectionFactory, jsonMessageConverter);
+    }
+}
@@ -0,0 +1,135 @@
+package com.ems.employeemanagementsystem.loadtest;
+
+import com.ems.employeemanagementsystem.entity.Department;
+import com.ems.employeemanagementsystem.entity.Employee;
+import com.ems.employeemanagementsystem.entity.LeaveRequest;
+import com.ems.employeemanagementsystem.entity.enums.LeaveStatus;
+import com.ems.employeemanagementsystem.repository.DepartmentRepository;
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import com.ems.employeemanagementsystem.repository.LeaveRequestRepository;
+import com.ems.employeemanagementsystem.service.DepartmentStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Seeds the dataset the workload runs against. Deterministic for a given loadtest.seed.
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+    private static final int CHUNK_SIZE = 1000;
+
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DepartmentStatsService departmentStatsService;
+
+    public LoadTestDataSeeder(DepartmentRepository departmentRepository,
+                              EmployeeRepository employeeRepository,
+                              LeaveRequestRepository leaveRequestRepository,
+                              TransactionTemplate transactionTemplate,
+                              DepartmentStatsService departmentStatsService) {
+        this.departmentRepository = departmentRepository;
+        this.employeeRepository = employeeRepository;
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.departmentStatsService = departmentStatsService;
+    }
+
+    public Dataset seed(LoadTestProperties properties) {
+        long start = System.nanoTime();
+        Random random = new Random(properties.getSeed());
+
+        List<Department> departments = new ArrayList<>(properties.getDepartments());
+        for (int i = 1; i <= properties.getDepartments(); i++) {
+            departments.add(Department.builder()
+                    .departmentName("Department " + i)
+                    .location("Building " + (char) ('A' + i % 5))
+                    .build());
+        }
+        List<Department> savedDepartments = transactionTemplate.execute(status -> departmentRepository.saveAll(departments));
+
+        List<Long> departmentIds = new ArrayList<>(savedDepartments.size());
+        savedDepartments.forEach(department -> departmentIds.add(department.getId()));
+
+        long[] employeeIds = new long[properties.getEmployees()];
+        ConcurrentLinkedQueue<Long> pendingLeaveIds = new ConcurrentLinkedQueue<>();
+        int leaves = 0;
+
+        for (int offset = 0; offset < properties.getEmployees(); offset += CHUNK_SIZE) {
+            int chunkStart = offset;
+            int chunkEnd = Math.min(offset + CHUNK_SIZE, properties.getEmployees());
+            leaves += transactionTemplate.execute(status -> {
+                List<Employee> employees = new ArrayList<>(chunkEnd - chunkStart);
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    employees.add(Employee.builder()
+                            .fullName("Employee " + i)
+                            .email("employee" + i + "@loadtest.local")
+                            .department(savedDepartments.get(random.nextInt(savedDepartments.size())))
+                            .salary(BigDecimal.valueOf(40_000 + random.nextInt(120_000)))
+                            .joiningDate(LocalDate.of(2015, 1, 1).plusDays(random.nextInt(3650)))
+                            .build());
+                }
+                List<Employee> saved = employeeRepository.saveAll(employees);
+
+                List<LeaveRequest> leaveRequests = new ArrayList<>();
+                for (int i = 0; i < saved.size(); i++) {
+                    Employee employee = saved.get(i);
+                    employeeIds[chunkStart + i] = employee.getId();
+                    for (int l = 0; l < properties.getLeavesPerEmployee(); l++) {
+                        LocalDate startDate = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365));
+                        leaveRequests.add(LeaveRequest.builder()
+                                .employee(employee)
+                                .startDate(startDate)
+                                .endDate(startDate.plusDays(1 + random.nextInt(10)))
+                                .status(LeaveStatus.values()[random.nextInt(LeaveStatus.values().length)])
+                                .reason("Seeded leave")
+                                .build());
+                    }
+                }
+                leaveRequestRepository.saveAll(leaveRequests).stream()
+                        .filter(leave -> leave.getStatus() == LeaveStatus.PENDING)
+                        .forEach(leave -> pendingLeaveIds.add(leave.getId()));
+                return leaveRequests.size();
+            });
+        }
+
+        // The rows above bypassed the services, so department_stats has to be recounted before the workload starts.
+        departmentStatsService.reconcile();
+
+        logger.info("Seeded {} departments, {} employees and {} leave requests in {} ms",
+                departmentIds.size(), employeeIds.length, leaves, (System.nanoTime() - start) / 1_000_000);
+        return new Dataset(departmentIds, employeeIds, leaves, pendingLeaveIds);
+    }
+
+    public static final class Dataset {
+        private final List<Long> departmentIds;
+        private final long[] employeeIds;
+        private final int leaveCount;
+        private final ConcurrentLinkedQueue<Long> pendingLeaveIds;
+
+        Dataset(List<Long> departmentIds, long[] employeeIds, int leaveCount,
+                ConcurrentLinkedQueue<Long> pendingLeaveIds) {
+            this.departmentIds = departmentIds;
+            this.employeeIds = employeeIds;
+            this.leaveCount = leaveCount;
+            this.pendingLeaveIds = pendingLeaveIds;
+        }
+
+        public List<Long> getDepartmentIds() { return departmentIds; }
+        public long[] getEmployeeIds() { return employeeIds; }
+        public int getLeaveCount() { return leaveCount; }
+        public ConcurrentLinkedQueue<Long> getPendingLeaveIds() { return pendingLeaveIds; }
+    }
+}
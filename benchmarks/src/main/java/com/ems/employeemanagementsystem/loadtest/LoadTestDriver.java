@@ -0,0 +1,234 @@
+package com.ems.employeemanagementsystem.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Drives the configured operation mix against the running application with a fixed number of concurrent users.
+@Component
+@Profile("loadtest")
+public class LoadTestDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDriver.class);
+
+    private final ObjectMapper objectMapper;
+    private final Statistics statistics;
+    private final String authorization;
+    private final AtomicLong uniqueCounter = new AtomicLong();
+
+    public LoadTestDriver(ObjectMapper objectMapper,
+                          EntityManagerFactory entityManagerFactory,
+                          @Value("${app.security.admin.username}") String adminUsername,
+                          @Value("${app.security.admin.password}") String adminPassword) {
+        this.objectMapper = objectMapper;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((adminUsername + ":" + adminPassword).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LoadTestReport run(int port, LoadTestProperties properties, LoadTestDataSeeder.Dataset dataset)
+            throws InterruptedException {
+        String baseUrl = "http://localhost:" + port;
+        Map<Operation, Integer> weights = properties.resolveWeights();
+        Operation[] wheel = buildWheel(weights);
+
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + properties.getWarmup().toNanos();
+        long endNanos = measureFromNanos + properties.getDuration().toNanos();
+
+        logger.info("Running scenario '{}' with {} users: {} warmup, {} measured, weights {}",
+                properties.getScenario(), properties.getUsers(), properties.getWarmup(),
+                properties.getDuration(), weights);
+
+        ExecutorService users = Executors.newFixedThreadPool(properties.getUsers());
+        CountDownLatch finished = new CountDownLatch(properties.getUsers());
+        for (int u = 0; u < properties.getUsers(); u++) {
+            Random random = new Random(properties.getSeed() + u);
+            users.execute(() -> {
+                try {
+                    while (System.nanoTime() < endNanos) {
+                        Operation operation = wheel[random.nextInt(wheel.length)];
+                        long begin = System.nanoTime();
+                        Outcome outcome = execute(client, baseUrl, operation, random, dataset);
+                        if (begin >= measureFromNanos) {
+                            recorders.get(outcome.operation).record(System.nanoTime() - begin, outcome.success);
+                        }
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureFromNanos - System.nanoTime()));
+        long statementsBefore = statistics.getPrepareStatementCount();
+        finished.await();
+        long statementsAfter = statistics.getPrepareStatementCount();
+        users.shutdown();
+
+        Map<Operation, LatencyRecorder.Snapshot> snapshots = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> snapshots.put(operation, recorder.snapshot()));
+        return new LoadTestReport(properties, dataset, snapshots, statementsAfter - statementsBefore);
+    }
+
+    private Outcome execute(HttpClient client, String baseUrl, Operation operation, Random random,
+                            LoadTestDataSeeder.Dataset dataset) {
+        try {
+            switch (operation) {
+                case LIST_EMPLOYEES: {
+                    int pages = Math.max(1, dataset.getEmployeeIds().length / 10);
+                    String[] sorts = {"name", "department", "joiningDate"};
+                    String query = "?page=" + random.nextInt(Math.min(pages, 50))
+                            + "&sortBy=" + sorts[random.nextInt(sorts.length)];
+                    return new Outcome(operation, ok(send(client, get(baseUrl + "/api/employees" + query))));
+                }
+                case GET_EMPLOYEE: {
+                    String url = baseUrl + "/api/employees/" + randomEmployeeId(random, dataset);
+                    return new Outcome(operation, ok(send(client, get(url))));
+                }
+                case CREATE_EMPLOYEE: {
+                    HttpRequest request = json("POST", baseUrl + "/api/employees", employeeBody(random, dataset));
+                    return new Outcome(operation, ok(send(client, request)));
+                }
+                case UPDATE_EMPLOYEE: {
+                    String url = baseUrl + "/api/employees/" + randomEmployeeId(random, dataset);
+                    return new Outcome(operation, ok(send(client, json("PUT", url, employeeBody(random, dataset)))));
+                }
+                case APPROVE_LEAVE: {
+                    Long leaveId = dataset.getPendingLeaveIds().poll();
+                    if (leaveId != null) {
+                        ObjectNode body = objectMapper.createObjectNode().put("status", "APPROVED");
+                        String url = baseUrl + "/api/leaves/" + leaveId + "/status";
+                        return new Outcome(operation, ok(send(client, json("PUT", url, body))));
+                    }
+                    // Nothing left to approve: fall through and create more pending work instead.
+                }
+                case SUBMIT_LEAVE: {
+                    LocalDate startDate = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365));
+                    ObjectNode body = objectMapper.createObjectNode()
+                            .put("employeeId", randomEmployeeId(random, dataset))
+                            .put("startDate", startDate.toString())
+                            .put("endDate", startDate.plusDays(1 + random.nextInt(10)).toString())
+                            .put("reason", "Load test");
+                    HttpResponse<String> response = send(client, json("POST", baseUrl + "/api/leaves", body));
+                    if (!ok(response)) {
+                        return new Outcome(Operation.SUBMIT_LEAVE, false);
+                    }
+                    JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+                    if (id.isNumber()) {
+                        dataset.getPendingLeaveIds().add(id.asLong());
+                    }
+                    return new Outcome(Operation.SUBMIT_LEAVE, true);
+                }
+                default:
+                    throw new IllegalStateException("Unsupported operation: " + operation);
+            }
+        } catch (IOException e) {
+            return new Outcome(operation, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(operation, false);
+        }
+    }
+
+    private ObjectNode employeeBody(Random random, LoadTestDataSeeder.Dataset dataset) {
+        long n = uniqueCounter.incrementAndGet();
+        List<Long> departmentIds = dataset.getDepartmentIds();
+        return objectMapper.createObjectNode()
+                .put("fullName", "Load Test " + n)
+                .put("email", "loadtest-" + n + "@loadtest.local")
+                .put("departmentId", departmentIds.get(random.nextInt(departmentIds.size())))
+                .put("salary", 40_000 + random.nextInt(120_000))
+                .put("joiningDate", LocalDate.of(2020, 1, 1).plusDays(random.nextInt(1500)).toString());
+    }
+
+    private long randomEmployeeId(Random random, LoadTestDataSeeder.Dataset dataset) {
+        long[] ids = dataset.getEmployeeIds();
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest json(String method, String url, JsonNode body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private boolean ok(HttpResponse<?> response) {
+        return response.statusCode() >= 200 && response.statusCode() < 300;
+    }
+
+    private Operation[] buildWheel(Map<Operation, Integer> weights) {
+        List<Operation> wheel = new ArrayList<>();
+        weights.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(operation);
+            }
+        });
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("Workload mix has no operations with a positive weight");
+        }
+        return wheel.toArray(new Operation[0]);
+    }
+
+    // The operation actually executed (approvals fall back to submissions when nothing is pending).
+    private static final class Outcome {
+        private final Operation operation;
+        private final boolean success;
+
+        private Outcome(Operation operation, boolean success) {
+            this.operation = operation;
+            this.success = success;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ems.employeemanagementsystem.loadtest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    private String scenario = "mixed";
+    private int users = 16;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(30);
+    private int departments = 20;
+    private int employees = 5000;
+    private int leavesPerEmployee = 2;
+    private long seed = 42L;
+    private Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    private String reportFile;
+
+    // Scenario weights with any explicit loadtest.mix overrides applied.
+    public Map<Operation, Integer> resolveWeights() {
+        Map<Operation, Integer> weights = new EnumMap<>(Scenario.fromName(scenario).getWeights());
+        weights.putAll(mix);
+        return weights;
+    }
+
+    public String getScenario() { return scenario; }
+    public void setScenario(String scenario) { this.scenario = scenario; }
+    public int getUsers() { return users; }
+    public void setUsers(int users) { this.users = users; }
+    public Duration getWarmup() { return warmup; }
+    public void setWarmup(Duration warmup) { this.warmup = warmup; }
+    public Duration getDuration() { return duration; }
+    public void setDuration(Duration duration) { this.duration = duration; }
+    public int getDepartments() { return departments; }
+    public void setDepartments(int departments) { this.departments = departments; }
+    public int getEmployees() { return employees; }
+    public void setEmployees(int employees) { this.employees = employees; }
+    public int getLeavesPerEmployee() { return leavesPerEmployee; }
+    public void setLeavesPerEmployee(int leavesPerEmployee) { this.leavesPerEmployee = leavesPerEmployee; }
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+    public Map<Operation, Integer> getMix() { return mix; }
+    public void setMix(Map<Operation, Integer> mix) { this.mix = mix; }
+    public String getReportFile() { return reportFile; }
+    public void setReportFile(String reportFile) { this.reportFile = reportFile; }
+}
@@ -0,0 +1,92 @@
+package com.ems.employeemanagementsystem.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+// Throughput, latency percentiles and SQL statements per request for one load-test run.
+public class LoadTestReport {
+
+    private final LoadTestProperties properties;
+    private final LoadTestDataSeeder.Dataset dataset;
+    private final Map<Operation, LatencyRecorder.Snapshot> snapshots;
+    private final long sqlStatements;
+
+    LoadTestReport(LoadTestProperties properties, LoadTestDataSeeder.Dataset dataset,
+                   Map<Operation, LatencyRecorder.Snapshot> snapshots, long sqlStatements) {
+        this.properties = properties;
+        this.dataset = dataset;
+        this.snapshots = snapshots;
+        this.sqlStatements = sqlStatements;
+    }
+
+    public String format() {
+        double seconds = properties.getDuration().toMillis() / 1000.0;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%nScenario: %s | users: %d | measured: %s | dataset: %d departments, "
+                        + "%d employees, %d leave requests%n%n",
+                properties.getScenario(), properties.getUsers(), properties.getDuration(),
+                dataset.getDepartmentIds().size(), dataset.getEmployeeIds().length, dataset.getLeaveCount()));
+        out.append(String.format(Locale.ROOT, "%-16s %10s %8s %10s %9s %9s %9s %9s%n",
+                "Operation", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<Operation, LatencyRecorder.Snapshot> entry : snapshots.entrySet()) {
+            LatencyRecorder.Snapshot snapshot = entry.getValue();
+            if (snapshot.count() == 0) {
+                continue;
+            }
+            totalRequests += snapshot.count();
+            totalErrors += snapshot.errors();
+            out.append(String.format(Locale.ROOT, "%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), snapshot.count(), snapshot.errors(), snapshot.count() / seconds,
+                    snapshot.percentileMillis(50), snapshot.percentileMillis(90),
+                    snapshot.percentileMillis(99), snapshot.maxMillis()));
+        }
+
+        out.append(String.format(Locale.ROOT, "%-16s %10d %8d %10.1f%n", "TOTAL", totalRequests, totalErrors,
+                totalRequests / seconds));
+        out.append(String.format(Locale.ROOT, "%nSQL statements: %d (%.2f per request)%n", sqlStatements,
+                totalRequests == 0 ? 0.0 : (double) sqlStatements / totalRequests));
+        return out.toString();
+    }
+
+    public void writeJson(ObjectMapper objectMapper, File file) throws IOException {
+        double seconds = properties.getDuration().toMillis() / 1000.0;
+        ObjectNode root = objectMapper.createObjectNode()
+                .put("scenario", properties.getScenario())
+                .put("users", properties.getUsers())
+                .put("durationSeconds", seconds)
+                .put("departments", dataset.getDepartmentIds().size())
+                .put("employees", dataset.getEmployeeIds().length)
+                .put("leaveRequests", dataset.getLeaveCount())
+                .put("sqlStatements", sqlStatements);
+
+        long totalRequests = 0;
+        ArrayNode operations = root.putArray("operations");
+        for (Map.Entry<Operation, LatencyRecorder.Snapshot> entry : snapshots.entrySet()) {
+            LatencyRecorder.Snapshot snapshot = entry.getValue();
+            totalRequests += snapshot.count();
+            operations.addObject()
+                    .put("operation", entry.getKey().name())
+                    .put("requests", snapshot.count())
+                    .put("errors", snapshot.errors())
+                    .put("throughput", snapshot.count() / seconds)
+                    .put("p50Millis", snapshot.percentileMillis(50))
+                    .put("p90Millis", snapshot.percentileMillis(90))
+                    .put("p99Millis", snapshot.percentileMillis(99))
+                    .put("maxMillis", snapshot.maxMillis());
+        }
+        root.put("requests", totalRequests)
+                .put("throughput", totalRequests / seconds)
+                .put("sqlStatementsPerRequest", totalRequests == 0 ? 0.0 : (double) sqlStatements / totalRequests);
+
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, root);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ems.employeemanagementsystem.loadtest;
+
+import com.ems.employeemanagementsystem.EmployeeManagementSystemApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+
+/**
+ * Boots the application against H2 with a stubbed broker, seeds a dataset and drives a mixed REST workload.
+ * All settings are Spring properties, e.g. {@code --loadtest.scenario=read-heavy --loadtest.users=32
+ * --loadtest.employees=20000 --loadtest.mix.approve-leave=0 --loadtest.report-file=run.json}.
+ */
+public class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            LoadTestProperties properties = context.getBean(LoadTestProperties.class);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            LoadTestDataSeeder.Dataset dataset = context.getBean(LoadTestDataSeeder.class).seed(properties);
+            LoadTestReport report = context.getBean(LoadTestDriver.class).run(port, properties, dataset);
+
+            System.out.println(report.format());
+            if (StringUtils.hasText(properties.getReportFile())) {
+                File file = new File(properties.getReportFile());
+                report.writeJson(context.getBean(ObjectMapper.class), file);
+                logger.info("Report written to {}", file.getAbsolutePath());
+            }
+        } finally {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
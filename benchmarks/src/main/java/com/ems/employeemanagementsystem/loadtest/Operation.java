@@ -0,0 +1,11 @@
+package com.ems.employeemanagementsystem.loadtest;
+
+// REST flows the load test can drive.
+public enum Operation {
+    LIST_EMPLOYEES,
+    GET_EMPLOYEE,
+    CREATE_EMPLOYEE,
+    UPDATE_EMPLOYEE,
+    SUBMIT_LEAVE,
+    APPROVE_LEAVE
+}
@@ -0,0 +1,34 @@
+package com.ems.employeemanagementsystem.loadtest;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Predefined workload mixes. Weights are relative; loadtest.mix.<operation> overrides them individually.
+public enum Scenario {
+
+    READ_HEAVY(30, 60, 2, 3, 4, 1),
+    MIXED(25, 35, 10, 10, 12, 8),
+    WRITE_HEAVY(10, 10, 25, 25, 20, 10);
+
+    private final Map<Operation, Integer> weights;
+
+    Scenario(int list, int get, int create, int update, int submitLeave, int approveLeave) {
+        Map<Operation, Integer> map = new EnumMap<>(Operation.class);
+        map.put(Operation.LIST_EMPLOYEES, list);
+        map.put(Operation.GET_EMPLOYEE, get);
+        map.put(Operation.CREATE_EMPLOYEE, create);
+        map.put(Operation.UPDATE_EMPLOYEE, update);
+        map.put(Operation.SUBMIT_LEAVE, submitLeave);
+        map.put(Operation.APPROVE_LEAVE, approveLeave);
+        this.weights = Collections.unmodifiableMap(map);
+    }
+
+    public Map<Operation, Integer> getWeights() {
+        return weights;
+    }
+
+    public static Scenario fromName(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
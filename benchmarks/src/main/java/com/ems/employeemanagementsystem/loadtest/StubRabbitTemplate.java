@@ -0,0 +1,36 @@
+package com.ems.employeemanagementsystem.loadtest;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Stand-in for the broker: messages are still converted (so serialization cost stays in the measurement)
+// but are counted and dropped instead of being sent.
+public class StubRabbitTemplate extends RabbitTemplate {
+
+    private final LongAdder published = new LongAdder();
+
+    public StubRabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
+        super(connectionFactory);
+        setMessageConverter(messageConverter);
+    }
+
+    @Override
+    public void convertAndSend(String exchange, String routingKey, Object object) {
+        getMessageConverter().toMessage(object, new MessageProperties());
+        published.increment();
+    }
+
+    @Override
+    public void send(String exchange, String routingKey, Message message) {
+        published.increment();
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ems.employeemanagementsystem.messaging;
+
+import com.ems.employeemanagementsystem.dto.NotificationDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Notification rendering in NotificationConsumer. Log output is suppressed by the module's logback.xml,
+// so this measures message formatting rather than appender I/O.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationConsumerBenchmark {
+
+    private NotificationConsumer consumer;
+    private NotificationDTO employeeNotification;
+    private NotificationDTO leaveNotification;
+
+    @Setup
+    public void setUp() {
+        consumer = new NotificationConsumer();
+
+        employeeNotification = NotificationDTO.builder()
+                .type("EMPLOYEE_CREATED")
+                .employeeName("John Smith")
+                .employeeEmail("john.smith@company.com")
+                .employeeId(42L)
+                .department("Engineering")
+                .purpose("Welcome notification")
+                .timestamp(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .build();
+
+        leaveNotification = NotificationDTO.builder()
+                .type("LEAVE_STATUS_UPDATED")
+                .employeeName("John Smith")
+                .employeeEmail("john.smith@company.com")
+                .leaveStartDate("2024-03-15")
+                .leaveEndDate("2024-03-20")
+                .leaveStatus("APPROVED")
+                .requestId(7L)
+                .purpose("Status update notification")
+                .timestamp(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .build();
+    }
+
+    @Benchmark
+    public void consumeEmployeeNotification() {
+        consumer.consumeEmployeeNotification(employeeNotification);
+    }
+
+    @Benchmark
+    public void consumeLeaveNotification() {
+        consumer.consumeLeaveNotification(leaveNotification);
+    }
+}
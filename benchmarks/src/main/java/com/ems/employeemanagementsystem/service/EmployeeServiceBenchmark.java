@@ -0,0 +1,65 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.entity.Department;
+import com.ems.employeemanagementsystem.entity.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Entity-to-DTO mapping and sort resolution, both executed on every employee read.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        Department department = Department.builder()
+                .id(1L)
+                .departmentName("Engineering")
+                .location("Building A, Floor 3")
+                .createdAt(LocalDateTime.of(2022, 1, 1, 9, 0))
+                .build();
+
+        employee = Employee.builder()
+                .id(42L)
+                .fullName("John Smith")
+                .email("john.smith@company.com")
+                .department(department)
+                .salary(new BigDecimal("85000.00"))
+                .joiningDate(LocalDate.of(2023, 1, 15))
+                .createdAt(LocalDateTime.of(2023, 1, 15, 9, 30))
+                .updatedAt(LocalDateTime.of(2023, 6, 1, 12, 0))
+                .build();
+    }
+
+    @Benchmark
+    public EmployeeDTO mapToDTO() {
+        return EmployeeMapping.toDTO(employee);
+    }
+
+    @Benchmark
+    public Sort resolveSort(SortInput input) {
+        return EmployeeMapping.sort(input.sortBy, input.sortDir);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SortInput {
+
+        @Param({"name", "department", "joiningDate", "unknown"})
+        String sortBy;
+
+        @Param({"asc", "desc"})
+        String sortDir;
+    }
+}
@@ -1,12 +1,20 @@
 package com.ems.employeemanagementsystem;
 
+import com.ems.employeemanagementsystem.config.SyntheticDataRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
 
 @SpringBootApplication
 public class EmployeeManagementSystemApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(EmployeeManagementSystemApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(EmployeeManagementSystemApplication.class, args);
+        // The generate-data command stops once SyntheticDataRunner has written the data.
+        if (Arrays.asList(args).contains(SyntheticDataRunner.GENERATE_COMMAND)) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
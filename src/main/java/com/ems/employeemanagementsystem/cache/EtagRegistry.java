@@ -0,0 +1,112 @@
+package com.ems.employeemanagementsystem.cache;
+
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.event.DepartmentChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers the current ETag of recently read employees and of the department list, so that a conditional GET
+ * whose If-None-Match still matches can be answered with 304 before touching the database.
+ *
+ * Entries are dropped after the writing transaction commits. The registry is per instance: another instance's
+ * writes are only seen once an entry is evicted, so run a single instance or front it with sticky sessions.
+ */
+@Component
+public class EtagRegistry {
+
+    private final Map<Long, String> employeeTags;
+    // Seeded from the clock so a restart never reproduces an ETag handed out by the previous process.
+    private final AtomicLong departmentsVersion = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong generation = new AtomicLong();
+
+    public EtagRegistry(@Value("${app.etag.max-entries:10000}") int maxEntries) {
+        this.employeeTags = Collections.synchronizedMap(new LinkedHashMap<Long, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public String employeeEtag(Long id) {
+        return employeeTags.get(id);
+    }
+
+    // Capture before reading from the database and pass to rememberEmployee.
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Computes the employee's ETag and caches it, unless a write committed since {@code readGeneration} was
+     * captured, in which case the data may already be stale and is not cached.
+     */
+    public String rememberEmployee(EmployeeDTO employee, long readGeneration) {
+        String tag = employeeTag(employee);
+        employeeTags.put(employee.getId(), tag);
+        if (generation.get() != readGeneration) {
+            employeeTags.remove(employee.getId(), tag);
+        }
+        return tag;
+    }
+
+    public String departmentsEtag() {
+        return "\"departments-" + Long.toHexString(departmentsVersion.get()) + "\"";
+    }
+
+    // The department list carries headcounts, so its tag moves whenever they change.
+    public void departmentStatsChanged() {
+        departmentsVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        generation.incrementAndGet();
+        employeeTags.remove(event.getEmployeeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesChanged(EmployeeBatchChangedEvent batch) {
+        batch.getChanges().forEach(this::onEmployeeChanged);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        departmentsVersion.incrementAndGet();
+    }
+
+    // Built from the row version, which every write bumps, so an If-Match check is a version comparison.
+    public static String employeeTag(EmployeeDTO employee) {
+        long version = employee.getVersion() != null ? employee.getVersion() : 0;
+        return "\"employee-" + employee.getId() + "-" + version + "\"";
+    }
+
+    /**
+     * Weak comparison as RFC 7232 requires for If-None-Match: a W/ prefix on either side is ignored.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(stripWeak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
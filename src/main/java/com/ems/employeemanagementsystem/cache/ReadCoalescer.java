@@ -0,0 +1,77 @@
+package com.ems.employeemanagementsystem.cache;
+
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.event.DepartmentChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for the hot reads: concurrent requests for the same employee, or for the same department's
+ * employees, share one query. The shared load runs in its own read-only transaction, so waiting callers hold
+ * neither a transaction nor a connection. The shared results go to several callers and must not be modified.
+ *
+ * Callers already inside a transaction load on their own, since they may need to see their uncommitted writes.
+ * A committed write makes later callers start a new load instead of joining one that may have read the old row.
+ */
+@Component
+public class ReadCoalescer {
+
+    private final SingleFlight<Long, EmployeeDTO> employees;
+    private final SingleFlight<Long, List<EmployeeDTO>> departmentEmployees;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReadCoalescer(MeterRegistry meterRegistry,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.single-flight.timeout-ms:5000}") long timeoutMs) {
+        this.employees = new SingleFlight<>("employee", timeoutMs, meterRegistry);
+        this.departmentEmployees = new SingleFlight<>("department.employees", timeoutMs, meterRegistry);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public EmployeeDTO employee(Long id, Supplier<EmployeeDTO> loader) {
+        return load(employees, id, loader);
+    }
+
+    public List<EmployeeDTO> departmentEmployees(Long departmentId, Supplier<List<EmployeeDTO>> loader) {
+        return load(departmentEmployees, departmentId, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        employees.forget(event.getEmployeeId());
+        if (event.getBefore() != null) {
+            departmentEmployees.forget(event.getBefore().getDepartmentId());
+        }
+        if (event.getAfter() != null) {
+            departmentEmployees.forget(event.getAfter().getDepartmentId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesChanged(EmployeeBatchChangedEvent batch) {
+        batch.getChanges().forEach(this::onEmployeeChanged);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        departmentEmployees.forget(event.getDepartmentId());
+    }
+
+    private <V> V load(SingleFlight<Long, V> flight, Long key, Supplier<V> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        return flight.load(key, () -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+}
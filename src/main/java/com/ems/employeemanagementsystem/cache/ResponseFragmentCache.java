@@ -0,0 +1,143 @@
+package com.ems.employeemanagementsystem.cache;
+
+import com.ems.employeemanagementsystem.dto.DepartmentDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.event.DepartmentChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-serialized JSON for single employees and the department list, keyed by the ETag the fragment was built
+ * from. A fragment is only served under the caller's current ETag, so a stale one is never returned. Writes
+ * still evict their entries so memory is released promptly.
+ *
+ * Responses are assembled by splicing the fragment into a pre-serialized ApiResponse envelope. The output is
+ * byte-for-byte what Jackson would write for ApiResponse.success(data, message).
+ */
+@Component
+public class ResponseFragmentCache {
+
+    private static final byte[] DATA_FIELD = ",\"data\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, byte[]> employeeFragments;
+    private final Map<String, byte[]> envelopePrefixes = new ConcurrentHashMap<>();
+    private volatile Fragment departmentsFragment;
+
+    public ResponseFragmentCache(ObjectMapper objectMapper,
+                                 @Value("${app.response-cache.max-entries:10000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.employeeFragments = Collections.synchronizedMap(new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public byte[] employee(String etag) {
+        return etag != null ? employeeFragments.get(etag) : null;
+    }
+
+    public byte[] rememberEmployee(String etag, EmployeeDTO employee) {
+        byte[] fragment = employeeFragments.get(etag);
+        if (fragment == null) {
+            fragment = serialize(employee);
+            employeeFragments.put(etag, fragment);
+        }
+        return fragment;
+    }
+
+    public byte[] departments(String etag) {
+        Fragment fragment = departmentsFragment;
+        return fragment != null && fragment.etag.equals(etag) ? fragment.bytes : null;
+    }
+
+    public byte[] rememberDepartments(String etag, List<DepartmentDTO> departments) {
+        byte[] bytes = serialize(departments);
+        departmentsFragment = new Fragment(etag, bytes);
+        return bytes;
+    }
+
+    /**
+     * Wraps an already serialized data fragment into the ApiResponse success envelope.
+     */
+    public byte[] successEnvelope(String message, byte[] data) {
+        byte[] prefix = envelopePrefixes.computeIfAbsent(message, this::envelopePrefix);
+        byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())
+                .getBytes(StandardCharsets.US_ASCII);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                prefix.length + DATA_FIELD.length + data.length + TIMESTAMP_FIELD.length + timestamp.length + 2);
+        out.write(prefix, 0, prefix.length);
+        out.write(DATA_FIELD, 0, DATA_FIELD.length);
+        out.write(data, 0, data.length);
+        out.write(TIMESTAMP_FIELD, 0, TIMESTAMP_FIELD.length);
+        out.write(timestamp, 0, timestamp.length);
+        out.write(END, 0, END.length);
+        return out.toByteArray();
+    }
+
+    public void clear() {
+        employeeFragments.clear();
+        departmentsFragment = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.getBefore() != null) {
+            employeeFragments.remove(EtagRegistry.employeeTag(event.getBefore()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesChanged(EmployeeBatchChangedEvent batch) {
+        batch.getChanges().forEach(this::onEmployeeChanged);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        departmentsFragment = null;
+    }
+
+    // {"success":true,"message":"..." - the field order ApiResponse serializes in.
+    private byte[] envelopePrefix(String message) {
+        return ("{\"success\":true,\"message\":" + new String(serialize(message), StandardCharsets.UTF_8))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response fragment", e);
+        }
+    }
+
+    private static final class Fragment {
+        private final String etag;
+        private final byte[] bytes;
+
+        private Fragment(String etag, byte[] bytes) {
+            this.etag = etag;
+            this.bytes = bytes;
+        }
+    }
+}
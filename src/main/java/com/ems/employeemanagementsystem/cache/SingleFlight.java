@@ -0,0 +1,96 @@
+package com.ems.employeemanagementsystem.cache;
+
+import com.ems.employeemanagementsystem.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent callers for the same key share one load. The first caller runs the loader on its own thread;
+ * callers that arrive while it runs wait for its result, or get its exception, for at most the timeout and then
+ * 503. Nothing is cached: once the load finishes, the next caller loads again.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final long timeoutMs;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loaded;
+    private final Counter coalesced;
+    private final Counter timedOut;
+
+    public SingleFlight(String name, long timeoutMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeoutMs = timeoutMs;
+        this.loaded = calls(meterRegistry, name, "loaded");
+        this.coalesced = calls(meterRegistry, name, "coalesced");
+        this.timedOut = calls(meterRegistry, name, "timed_out");
+        Gauge.builder("singleflight.in.flight", inFlight, Map::size)
+                .tag("name", name)
+                .description("Loads currently running that later callers can join")
+                .register(meterRegistry);
+    }
+
+    private static Counter calls(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .description("Reads by outcome; coalesced calls shared a load already in flight instead of querying")
+                .register(meterRegistry);
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return await(key, running);
+        }
+
+        loaded.increment();
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    // Callers arriving after this start a new load, e.g. once a write to the key has committed.
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    private V await(K key, CompletableFuture<V> running) {
+        try {
+            return running.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            throw new ServiceUnavailableException("Timed out waiting for " + name + " " + key + ", please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for " + name + " " + key);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ems.employeemanagementsystem.config;
+
+import com.ems.employeemanagementsystem.ratelimit.AdmissionControlFilter;
+import com.ems.employeemanagementsystem.ratelimit.ConcurrencyLimiter;
+import com.ems.employeemanagementsystem.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AdmissionControlConfig {
+
+    // After Spring Security, so limits are keyed by the authenticated caller; before the idempotency filter,
+    // so a refused request never claims a key.
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            RateLimiter rateLimiter,
+            ConcurrencyLimiter concurrencyLimiter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(rateLimiter, concurrencyLimiter, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 5);
+        return registration;
+    }
+}
@@ -16,9 +16,9 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
-// Loads sample data on startup when the database is empty. Excluded from test profile.
+// Loads sample data on startup when the database is empty. Excluded from test, loadtest and seed profiles.
 @Component
-@Profile("!test")
+@Profile("!test & !loadtest & !seed")
 public class DataLoader implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(DataLoader.class);
@@ -0,0 +1,43 @@
+package com.ems.employeemanagementsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Two connection pools to the same database. The primary pool serves JPA, Flyway and all interactive requests;
+ * the small read-only reporting pool serves exports, so a long export can never take a connection an
+ * interactive request is waiting for. Declaring a second pool switches off Spring Boot's own DataSource, so
+ * the primary one is declared here from the usual spring.datasource and spring.datasource.hikari properties.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource reportingDataSource(
+            DataSourceProperties properties,
+            @Value("${app.reporting.pool-size:2}") int poolSize,
+            @Value("${app.reporting.connection-timeout-ms:5000}") long connectionTimeoutMs) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("reporting");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        dataSource.setReadOnly(true);
+        if (properties.determineUrl().startsWith("jdbc:mysql:")) {
+            // Without a server-side cursor MySQL sends the whole result set at once, whatever the fetch size.
+            dataSource.addDataSourceProperty("useCursorFetch", "true");
+        }
+        return dataSource;
+    }
+}
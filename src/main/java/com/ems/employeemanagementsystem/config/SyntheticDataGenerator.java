@@ -0,0 +1,343 @@
+package com.ems.employeemanagementsystem.config;
+
+import com.ems.employeemanagementsystem.entity.enums.LeaveStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a large, deterministic dataset for performance work. The same seed and reference date always
+ * produce the same rows. Department sizes follow a Zipf distribution, hiring grows towards the reference
+ * date, and leave start dates peak in summer and December.
+ *
+ * Rows are written with plain JDBC batches, one transaction per batch. With
+ * {@code rewriteBatchedStatements=true} on the MySQL URL each batch goes out as multi-row INSERTs.
+ */
+@Component
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] DEPARTMENT_AREAS = {
+            "Engineering", "Sales", "Marketing", "Finance", "Human Resources", "Operations", "Legal",
+            "Customer Support", "Research", "Product", "Data", "Security", "Facilities", "Procurement",
+            "Logistics", "Quality Assurance"};
+    private static final String[] REGIONS = {"EMEA", "APAC", "Americas", "LATAM", "Nordics", "DACH"};
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Sandra", "Priya", "Wei",
+            "Aarav", "Fatima", "Mateo", "Sofia", "Lukas", "Emma", "Hiroshi", "Yuki", "Omar", "Amara"};
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Clark", "Lewis", "Robinson", "Walker", "Young",
+            "Sharma", "Chen", "Nakamura", "Muller", "Rossi", "Silva", "Kowalski", "Novak", "Okafor", "Haddad"};
+    private static final String[] LEAVE_REASONS = {
+            "Family vacation", "Personal leave", "Medical appointment", "Sick leave", "Wedding",
+            "Moving house", "Conference", "Childcare", "Bereavement", "Short trip"};
+    // Relative leave start weights for January..December: summer holidays and the December break dominate.
+    private static final double[] MONTH_WEIGHTS = {6, 5, 7, 8, 8, 10, 14, 14, 7, 6, 5, 12};
+
+    private static final int HISTORY_YEARS = 15;
+    private static final double DEPARTMENT_SIZE_SKEW = 1.07;
+
+    private static final String INSERT_DEPARTMENT =
+            "INSERT INTO departments (department_name, location, created_at, version) VALUES (?, ?, ?, 0)";
+    private static final String INSERT_EMPLOYEE =
+            "INSERT INTO employees (full_name, email, department_id, salary, joining_date, created_at, updated_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_LEAVE =
+            "INSERT INTO leave_requests (employee_id, start_date, end_date, status, reason, created_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.seed.departments:500}")
+    private int departmentCount;
+
+    @Value("${app.seed.employees:1000000}")
+    private int employeeCount;
+
+    @Value("${app.seed.leave-requests:10000000}")
+    private long leaveRequestCount;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${app.seed.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.seed.reference-date:}")
+    private String referenceDateValue;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public boolean isDatabaseEmpty() {
+        Long departments = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM departments", Long.class);
+        Long employees = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Long.class);
+        return departments != null && departments == 0 && employees != null && employees == 0;
+    }
+
+    public void generate() {
+        LocalDate referenceDate = StringUtils.hasText(referenceDateValue)
+                ? LocalDate.parse(referenceDateValue) : LocalDate.now();
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        long start = System.nanoTime();
+
+        logger.info("Generating {} departments, {} employees and {} leave requests (seed {}, reference date {})",
+                departmentCount, employeeCount, leaveRequestCount, randomSeed, referenceDate);
+
+        long[] departmentIds = insertDepartments(random, referenceDate);
+        EmployeeColumns employees = insertEmployees(random, referenceDate, departmentIds);
+        long leaves = insertLeaveRequests(random, referenceDate, employees);
+
+        logger.info("Synthetic data generated: {} departments, {} employees, {} leave requests in {} s",
+                departmentIds.length, employees.ids.length, leaves, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private long[] insertDepartments(SplittableRandom random, LocalDate referenceDate) {
+        LocalDateTime createdAt = referenceDate.minusYears(HISTORY_YEARS).atTime(LocalTime.of(9, 0));
+        List<Object[]> rows = new ArrayList<>(departmentCount);
+        for (int i = 0; i < departmentCount; i++) {
+            String name = DEPARTMENT_AREAS[i % DEPARTMENT_AREAS.length] + " "
+                    + REGIONS[(i / DEPARTMENT_AREAS.length) % REGIONS.length] + " " + (i + 1);
+            String location = "Building " + (char) ('A' + random.nextInt(8)) + ", Floor " + (1 + random.nextInt(12));
+            rows.add(new Object[]{name, location, Timestamp.valueOf(createdAt)});
+        }
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Object[]> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_DEPARTMENT, batch));
+        }
+        return jdbcTemplate.queryForList("SELECT department_id FROM departments ORDER BY department_id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private EmployeeColumns insertEmployees(SplittableRandom random, LocalDate referenceDate, long[] departmentIds) {
+        double[] departmentCdf = zipfCdf(departmentIds.length, random);
+        double[] salaryBase = new double[departmentIds.length];
+        for (int d = 0; d < departmentIds.length; d++) {
+            salaryBase[d] = 45_000 + random.nextInt(75_000);
+        }
+
+        long historyDays = referenceDate.toEpochDay() - referenceDate.minusYears(HISTORY_YEARS).toEpochDay();
+        long firstDay = referenceDate.toEpochDay() - historyDays;
+        int[] joiningDays = new int[employeeCount];
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < employeeCount; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            int department = sample(departmentCdf, random.nextDouble());
+
+            // sqrt skews hiring towards recent years, as a growing company would.
+            long joiningDay = firstDay + (long) (Math.sqrt(random.nextDouble()) * historyDays);
+            joiningDays[i] = (int) joiningDay;
+            double tenureYears = (referenceDate.toEpochDay() - joiningDay) / 365.0;
+            double salary = salaryBase[department] * Math.exp(0.25 * gaussian(random)) * (1 + 0.03 * tenureYears);
+
+            LocalDate joiningDate = LocalDate.ofEpochDay(joiningDay);
+            Timestamp createdAt = Timestamp.valueOf(joiningDate.atTime(LocalTime.of(9, 0)));
+            batch.add(new Object[]{
+                    firstName + " " + lastName,
+                    (firstName + "." + lastName + "." + (i + 1) + "@company.com").toLowerCase(Locale.ROOT),
+                    departmentIds[department],
+                    BigDecimal.valueOf(salary).setScale(2, RoundingMode.HALF_UP),
+                    Date.valueOf(joiningDate),
+                    createdAt,
+                    createdAt});
+
+            if (batch.size() == batchSize || i == employeeCount - 1) {
+                List<Object[]> rows = batch;
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, rows));
+                batch = new ArrayList<>(batchSize);
+                logProgress("employees", i + 1, employeeCount);
+            }
+        }
+
+        // Inserts ran sequentially on one connection, so ascending ids line up with generation order.
+        long[] ids = new long[employeeCount];
+        int[] index = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT employee_id FROM employees ORDER BY employee_id");
+            statement.setFetchSize(batchSize);
+            return statement;
+        }, resultSet -> {
+            if (index[0] < ids.length) {
+                ids[index[0]] = resultSet.getLong(1);
+            }
+            index[0]++;
+        });
+        if (index[0] != employeeCount) {
+            throw new IllegalStateException("Expected " + employeeCount + " employees after generation but found "
+                    + index[0]);
+        }
+        return new EmployeeColumns(ids, joiningDays);
+    }
+
+    private long insertLeaveRequests(SplittableRandom random, LocalDate referenceDate, EmployeeColumns employees) {
+        long today = referenceDate.toEpochDay();
+        double totalTenure = 0;
+        for (int joiningDay : employees.joiningDays) {
+            totalTenure += today - joiningDay + 1;
+        }
+        // Leave volume per employee is proportional to tenure and scaled to hit the requested total.
+        double leavesPerDay = leaveRequestCount / totalTenure;
+        double[] monthCdf = cdf(MONTH_WEIGHTS);
+
+        long inserted = 0;
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int e = 0; e < employees.ids.length; e++) {
+            int joiningDay = employees.joiningDays[e];
+            double expected = (today - joiningDay + 1) * leavesPerDay;
+            int count = (int) expected + (random.nextDouble() < expected - (int) expected ? 1 : 0);
+
+            for (int l = 0; l < count; l++) {
+                LocalDate startDate = seasonalDate(random, monthCdf, joiningDay, today + 60);
+                int length = random.nextInt(20) == 0 ? 10 + random.nextInt(11) : 1 + (int) (-Math.log(
+                        1 - random.nextDouble()) * 2.5);
+                LocalDate endDate = startDate.plusDays(length - 1L);
+
+                long createdDay = Math.max(joiningDay, startDate.toEpochDay() - 1 - random.nextInt(45));
+                createdDay = Math.min(createdDay, today);
+                LocalDateTime createdAt = LocalDate.ofEpochDay(createdDay)
+                        .atTime(8 + random.nextInt(10), random.nextInt(60), random.nextInt(60));
+
+                LeaveStatus status;
+                if (startDate.toEpochDay() > today - 30 && random.nextInt(10) < 6) {
+                    status = LeaveStatus.PENDING;
+                } else {
+                    status = random.nextInt(100) < 85 ? LeaveStatus.APPROVED : LeaveStatus.REJECTED;
+                }
+
+                batch.add(new Object[]{
+                        employees.ids[e],
+                        Date.valueOf(startDate),
+                        Date.valueOf(endDate),
+                        status.name(),
+                        LEAVE_REASONS[random.nextInt(LEAVE_REASONS.length)],
+                        Timestamp.valueOf(createdAt)});
+
+                if (batch.size() == batchSize) {
+                    inserted += flushLeaves(batch);
+                    batch = new ArrayList<>(batchSize);
+                    logProgress("leave requests", inserted, leaveRequestCount);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            inserted += flushLeaves(batch);
+        }
+        return inserted;
+    }
+
+    private int flushLeaves(List<Object[]> rows) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_LEAVE, rows));
+        return rows.size();
+    }
+
+    // Picks a seasonal month first, then a year and day inside the [fromDay, toDay] window.
+    private LocalDate seasonalDate(SplittableRandom random, double[] monthCdf, long fromDay, long toDay) {
+        LocalDate from = LocalDate.ofEpochDay(fromDay);
+        LocalDate to = LocalDate.ofEpochDay(toDay);
+        for (int attempt = 0; attempt < 8; attempt++) {
+            int year = from.getYear() + random.nextInt(to.getYear() - from.getYear() + 1);
+            int month = sample(monthCdf, random.nextDouble()) + 1;
+            LocalDate firstOfMonth = LocalDate.of(year, month, 1);
+            LocalDate candidate = firstOfMonth.plusDays(random.nextInt(firstOfMonth.lengthOfMonth()));
+            if (!candidate.isBefore(from) && !candidate.isAfter(to)) {
+                return candidate;
+            }
+        }
+        return LocalDate.ofEpochDay(fromDay + (long) (random.nextDouble() * (toDay - fromDay + 1)));
+    }
+
+    // Zipf weights assigned to departments in random order, so the largest department is not always the first.
+    private static double[] zipfCdf(int size, SplittableRandom random) {
+        double[] weights = new double[size];
+        for (int rank = 1; rank <= size; rank++) {
+            weights[rank - 1] = 1.0 / Math.pow(rank, DEPARTMENT_SIZE_SKEW);
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double tmp = weights[i];
+            weights[i] = weights[j];
+            weights[j] = tmp;
+        }
+        return cdf(weights);
+    }
+
+    private static double[] cdf(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double[] cdf = new double[weights.length];
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            cdf[i] = running / total;
+        }
+        cdf[cdf.length - 1] = 1.0;
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, double u) {
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Box-Muller; SplittableRandom has no nextGaussian on Java 11.
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private void logProgress(String what, long done, long total) {
+        if (done % (batchSize * 20L) == 0 || done == total) {
+            logger.info("Inserted {} / {} {}", done, total, what);
+        }
+    }
+
+    private static final class EmployeeColumns {
+        private final long[] ids;
+        private final int[] joiningDays;
+
+        private EmployeeColumns(long[] ids, int[] joiningDays) {
+            this.ids = ids;
+            this.joiningDays = joiningDays;
+        }
+    }
+}
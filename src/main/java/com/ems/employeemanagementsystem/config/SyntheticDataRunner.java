@@ -0,0 +1,53 @@
+package com.ems.employeemanagementsystem.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+// Runs the synthetic data generator when the "seed" profile is active or the app is started with the
+// "generate-data" argument. For the command form, main() closes the application once the data is written and
+// exits with the code reported here. Ordered first so DataLoader finds a populated database and skips its
+// sample rows.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SyntheticDataRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    public static final String GENERATE_COMMAND = "generate-data";
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataRunner.class);
+
+    private final SyntheticDataGenerator generator;
+    private final Environment environment;
+
+    public SyntheticDataRunner(SyntheticDataGenerator generator, Environment environment) {
+        this.generator = generator;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        boolean command = args.getNonOptionArgs().contains(GENERATE_COMMAND);
+        if (!command && !environment.acceptsProfiles(Profiles.of("seed"))) {
+            return;
+        }
+
+        if (generator.isDatabaseEmpty()) {
+            generator.generate();
+        } else {
+            logger.info("Database already contains data, skipping synthetic data generation");
+        }
+    }
+
+    // A failed generation fails startup instead, so reaching exit means the data is in place.
+    @Override
+    public int getExitCode() {
+        return 0;
+    }
+}
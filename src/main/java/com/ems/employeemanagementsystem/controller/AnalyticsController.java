@@ -0,0 +1,50 @@
+package com.ems.employeemanagementsystem.controller;
+
+import com.ems.employeemanagementsystem.dto.ApiResponse;
+import com.ems.employeemanagementsystem.dto.MonthlyCountDTO;
+import com.ems.employeemanagementsystem.dto.PayrollSummaryDTO;
+import com.ems.employeemanagementsystem.service.PayrollAnalytics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+
+    private final PayrollAnalytics payrollAnalytics;
+
+    public AnalyticsController(PayrollAnalytics payrollAnalytics) {
+        this.payrollAnalytics = payrollAnalytics;
+    }
+
+    @GetMapping("/payroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PayrollSummaryDTO>> getPayrollSummary() {
+        logger.info("GET /api/analytics/payroll");
+        PayrollSummaryDTO summary = payrollAnalytics.payrollSummary();
+        return ResponseEntity.ok(ApiResponse.success(summary, "Payroll summary retrieved successfully"));
+    }
+
+    @GetMapping("/joiners")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<MonthlyCountDTO>>> getJoinersPerMonth(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        logger.info("GET /api/analytics/joiners - departmentId: {}, from: {}, to: {}", departmentId, from, to);
+        List<MonthlyCountDTO> joiners = payrollAnalytics.joinersPerMonth(departmentId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(joiners, "Joiners per month retrieved successfully"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.ems.employeemanagementsystem.controller;
+
+import com.ems.employeemanagementsystem.dto.ApiResponse;
+import com.ems.employeemanagementsystem.dto.ChangeFeedDTO;
+import com.ems.employeemanagementsystem.service.ChangeLogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeFeedController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedController.class);
+
+    private final ChangeLogService changeLogService;
+
+    public ChangeFeedController(ChangeLogService changeLogService) {
+        this.changeLogService = changeLogService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<ApiResponse<ChangeFeedDTO>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        logger.info("GET /api/changes - since: {}, limit: {}", since, limit);
+        ChangeFeedDTO feed = changeLogService.getChanges(since, limit);
+        return ResponseEntity.ok(ApiResponse.success(feed, "Changes retrieved successfully"));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ems.employeemanagementsystem.controller;
+
+import com.ems.employeemanagementsystem.messaging.ChangeStreamHub;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamController.class);
+
+    private final ChangeStreamHub changeStreamHub;
+
+    public ChangeStreamController(ChangeStreamHub changeStreamHub) {
+        this.changeStreamHub = changeStreamHub;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public SseEmitter streamChanges(@RequestParam(required = false) Long departmentId) {
+        logger.info("GET /api/changes/stream - departmentId: {}", departmentId);
+        return changeStreamHub.subscribe(departmentId);
+    }
+}
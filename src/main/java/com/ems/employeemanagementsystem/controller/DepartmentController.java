@@ -1,18 +1,27 @@
 package com.ems.employeemanagementsystem.controller;
 
+import com.ems.employeemanagementsystem.cache.EtagRegistry;
+import com.ems.employeemanagementsystem.cache.ResponseFragmentCache;
 import com.ems.employeemanagementsystem.dto.ApiResponse;
 import com.ems.employeemanagementsystem.dto.DepartmentDTO;
+import com.ems.employeemanagementsystem.dto.DepartmentMergeDTO;
 import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDeleteResultDTO;
 import com.ems.employeemanagementsystem.service.DepartmentService;
+import com.ems.employeemanagementsystem.service.EmployeeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/departments")
@@ -20,18 +29,46 @@ public class DepartmentController {
 
     private static final Logger logger = LoggerFactory.getLogger(DepartmentController.class);
 
+    // Departments rarely change, so clients may reuse the list briefly before revalidating.
+    private static final CacheControl DEPARTMENTS_CACHE_CONTROL =
+            CacheControl.maxAge(30, TimeUnit.SECONDS).cachePrivate().mustRevalidate();
+
     private final DepartmentService departmentService;
+    private final EtagRegistry etagRegistry;
+    private final ResponseFragmentCache fragmentCache;
+    private final EmployeeService employeeService;
 
-    public DepartmentController(DepartmentService departmentService) {
+    public DepartmentController(DepartmentService departmentService, EtagRegistry etagRegistry,
+                                ResponseFragmentCache fragmentCache, EmployeeService employeeService) {
         this.departmentService = departmentService;
+        this.etagRegistry = etagRegistry;
+        this.fragmentCache = fragmentCache;
+        this.employeeService = employeeService;
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<ApiResponse<List<DepartmentDTO>>> getAllDepartments() {
+    public ResponseEntity<byte[]> getAllDepartments(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("GET /api/departments");
-        List<DepartmentDTO> departments = departmentService.getAllDepartments();
-        return ResponseEntity.ok(ApiResponse.success(departments, "Departments retrieved successfully"));
+
+        // Read the version before the data: a concurrent change then yields a stale tag, never stale data.
+        String etag = etagRegistry.departmentsEtag();
+        if (EtagRegistry.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag).cacheControl(DEPARTMENTS_CACHE_CONTROL).build();
+        }
+
+        byte[] fragment = fragmentCache.departments(etag);
+        if (fragment == null) {
+            fragment = fragmentCache.rememberDepartments(etag, departmentService.getAllDepartments());
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(DEPARTMENTS_CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(fragmentCache.successEnvelope("Departments retrieved successfully", fragment));
     }
 
     @PostMapping
@@ -52,4 +89,24 @@ public class DepartmentController {
         List<EmployeeDTO> employees = departmentService.getDepartmentEmployees(id);
         return ResponseEntity.ok(ApiResponse.success(employees, "Department employees retrieved successfully"));
     }
+
+    @DeleteMapping("/{id}/employees")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeDeleteResultDTO>> deleteDepartmentEmployees(@PathVariable Long id) {
+        logger.info("DELETE /api/departments/{}/employees", id);
+        EmployeeDeleteResultDTO result = employeeService.deleteDepartmentEmployees(id);
+        return ResponseEntity.ok(ApiResponse.success(result, "Deleted " + result.getDeleted() + " employees"));
+    }
+
+    @PostMapping("/{id}/merge")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<DepartmentDTO>> mergeDepartment(
+            @PathVariable Long id,
+            @Valid @RequestBody DepartmentMergeDTO request) {
+        logger.info("POST /api/departments/{}/merge - into department {}", id, request.getTargetDepartmentId());
+        int moved = employeeService.mergeDepartments(id, request.getTargetDepartmentId());
+        DepartmentDTO target = departmentService.getDepartmentById(request.getTargetDepartmentId());
+        return ResponseEntity.ok(ApiResponse.success(target,
+                "Department merged successfully, moved " + moved + " employees"));
+    }
 }
@@ -1,17 +1,32 @@
 package com.ems.employeemanagementsystem.controller;
 
+import com.ems.employeemanagementsystem.cache.EtagRegistry;
+import com.ems.employeemanagementsystem.cache.ResponseFragmentCache;
 import com.ems.employeemanagementsystem.dto.ApiResponse;
+import com.ems.employeemanagementsystem.dto.BulkEmployeeDeleteDTO;
 import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDeleteResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeLookupRequestDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeLookupResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeReassignDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeReassignResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeSuggestionDTO;
+import com.ems.employeemanagementsystem.dto.SliceDTO;
 import com.ems.employeemanagementsystem.service.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -19,10 +34,18 @@ public class EmployeeController {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
+    // Clients may keep the representation but must revalidate it; a matching ETag costs no database work.
+    private static final CacheControl EMPLOYEE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final EmployeeService employeeService;
+    private final EtagRegistry etagRegistry;
+    private final ResponseFragmentCache fragmentCache;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EtagRegistry etagRegistry,
+                              ResponseFragmentCache fragmentCache) {
         this.employeeService = employeeService;
+        this.etagRegistry = etagRegistry;
+        this.fragmentCache = fragmentCache;
     }
 
     @GetMapping
@@ -40,12 +63,81 @@ public class EmployeeController {
         return ResponseEntity.ok(ApiResponse.success(employees, "Employees retrieved successfully"));
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<ApiResponse<SliceDTO<EmployeeDTO>>> scrollEmployees(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        logger.info("GET /api/employees/scroll - page: {}, size: {}, sortBy: {}, sortDir: {}, departmentId: {}",
+                page, size, sortBy, sortDir, departmentId);
+
+        SliceDTO<EmployeeDTO> employees = employeeService.getEmployeeSlice(
+                page, size, sortBy, sortDir, departmentId, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(employees, "Employees retrieved successfully"));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<ApiResponse<EmployeeDTO>> getEmployeeById(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getEmployeeById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("GET /api/employees/{}", id);
-        EmployeeDTO employee = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(ApiResponse.success(employee, "Employee retrieved successfully"));
+
+        String etag = etagRegistry.employeeEtag(id);
+        if (EtagRegistry.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag).cacheControl(EMPLOYEE_CACHE_CONTROL).build();
+        }
+
+        byte[] fragment = fragmentCache.employee(etag);
+        if (fragment == null) {
+            long generation = etagRegistry.generation();
+            EmployeeDTO employee = employeeService.getEmployeeById(id);
+            etag = etagRegistry.rememberEmployee(employee, generation);
+            fragment = fragmentCache.rememberEmployee(etag, employee);
+        }
+
+        // A matching If-None-Match on this ETag is still turned into a 304 by Spring MVC.
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(EMPLOYEE_CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(fragmentCache.successEnvelope("Employee retrieved successfully", fragment));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> searchEmployees(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.info("GET /api/employees/search - q: '{}', limit: {}", q, limit);
+        List<EmployeeDTO> employees = employeeService.searchEmployees(q, limit);
+        return ResponseEntity.ok(ApiResponse.success(employees, "Found " + employees.size() + " employees"));
+    }
+
+    @GetMapping("/autocomplete")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<ApiResponse<List<EmployeeSuggestionDTO>>> autocompleteEmployees(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<EmployeeSuggestionDTO> suggestions = employeeService.autocompleteEmployees(q, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions, "Suggestions retrieved successfully"));
+    }
+
+    @PostMapping("/lookup")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<ApiResponse<List<EmployeeLookupResultDTO>>> lookupEmployees(
+            @Valid @RequestBody EmployeeLookupRequestDTO request) {
+        logger.info("POST /api/employees/lookup - {} ids", request.getIds().size());
+        List<EmployeeLookupResultDTO> results = employeeService.lookupEmployees(request.getIds());
+        long found = results.stream().filter(EmployeeLookupResultDTO::isFound).count();
+        return ResponseEntity.ok(ApiResponse.success(results,
+                "Found " + found + " of " + results.size() + " employees"));
     }
 
     @PostMapping
@@ -63,10 +155,26 @@ public class EmployeeController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<EmployeeDTO>> updateEmployee(
             @PathVariable Long id,
-            @Valid @RequestBody EmployeeDTO employeeDTO) {
+            @Valid @RequestBody EmployeeDTO employeeDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         logger.info("PUT /api/employees/{} - Updating employee", id);
-        EmployeeDTO updatedEmployee = employeeService.updateEmployee(id, employeeDTO);
-        return ResponseEntity.ok(ApiResponse.success(updatedEmployee, "Employee updated successfully"));
+        EmployeeDTO updatedEmployee = employeeService.updateEmployee(id, employeeDTO, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(EtagRegistry.employeeTag(updatedEmployee))
+                .body(ApiResponse.success(updatedEmployee, "Employee updated successfully"));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeDTO>> patchEmployee(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.info("PATCH /api/employees/{} - Patching employee", id);
+        EmployeeDTO patchedEmployee = employeeService.patchEmployee(id, patch, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(EtagRegistry.employeeTag(patchedEmployee))
+                .body(ApiResponse.success(patchedEmployee, "Employee updated successfully"));
     }
 
     @DeleteMapping("/{id}")
@@ -76,4 +184,22 @@ public class EmployeeController {
         employeeService.deleteEmployee(id);
         return ResponseEntity.ok(ApiResponse.success(null, "Employee deleted successfully"));
     }
+
+    @PostMapping("/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeDeleteResultDTO>> deleteEmployees(
+            @Valid @RequestBody BulkEmployeeDeleteDTO request) {
+        logger.info("POST /api/employees/delete - {} ids", request.getIds().size());
+        EmployeeDeleteResultDTO result = employeeService.deleteEmployees(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success(result, "Deleted " + result.getDeleted() + " employees"));
+    }
+
+    @PostMapping("/reassign")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeReassignResultDTO>> reassignEmployees(
+            @Valid @RequestBody EmployeeReassignDTO request) {
+        logger.info("POST /api/employees/reassign - to department {}", request.getToDepartmentId());
+        EmployeeReassignResultDTO result = employeeService.reassignEmployees(request);
+        return ResponseEntity.ok(ApiResponse.success(result, "Moved " + result.getMoved() + " employees"));
+    }
 }
@@ -1,17 +1,22 @@
 package com.ems.employeemanagementsystem.controller;
 
 import com.ems.employeemanagementsystem.dto.ApiResponse;
+import com.ems.employeemanagementsystem.dto.BulkLeaveStatusUpdateDTO;
+import com.ems.employeemanagementsystem.dto.CursorSliceDTO;
 import com.ems.employeemanagementsystem.dto.LeaveRequestDTO;
+import com.ems.employeemanagementsystem.dto.LeaveStatusOutcomeDTO;
 import com.ems.employeemanagementsystem.dto.LeaveStatusUpdateDTO;
 import com.ems.employeemanagementsystem.service.LeaveRequestService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -48,6 +53,36 @@ public class LeaveRequestController {
         return ResponseEntity.ok(ApiResponse.success(updatedRequest, "Leave status updated successfully"));
     }
 
+    @PutMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<LeaveStatusOutcomeDTO>>> updateLeaveStatuses(
+            @Valid @RequestBody BulkLeaveStatusUpdateDTO bulkUpdate) {
+        logger.info("PUT /api/leaves/status - Updating {} requests to: {}",
+                bulkUpdate.getIds().size(), bulkUpdate.getStatus());
+        List<LeaveStatusOutcomeDTO> outcomes =
+                leaveRequestService.updateLeaveStatuses(bulkUpdate.getIds(), bulkUpdate.getStatus());
+        long updated = outcomes.stream()
+                .filter(outcome -> outcome.getOutcome() == LeaveStatusOutcomeDTO.Outcome.UPDATED)
+                .count();
+        return ResponseEntity.ok(ApiResponse.success(outcomes,
+                "Updated " + updated + " of " + outcomes.size() + " leave requests"));
+    }
+
+    @GetMapping("/pending")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorSliceDTO<LeaveRequestDTO>>> getPendingLeaves(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("GET /api/leaves/pending - departmentId: {}, from: {}, to: {}, size: {}",
+                departmentId, from, to, size);
+        CursorSliceDTO<LeaveRequestDTO> pending =
+                leaveRequestService.getPendingLeaves(departmentId, from, to, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(pending, "Pending leave requests retrieved successfully"));
+    }
+
     @GetMapping("/employee/{empId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     public ResponseEntity<ApiResponse<List<LeaveRequestDTO>>> getEmployeeLeaves(@PathVariable Long empId) {
@@ -0,0 +1,39 @@
+package com.ems.employeemanagementsystem.controller;
+
+import com.ems.employeemanagementsystem.service.EmployeeExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportController.class);
+
+    private final EmployeeExportService exportService;
+
+    public ReportController(EmployeeExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/employees")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseBodyEmitter> exportEmployees(@RequestParam(required = false) Long departmentId) {
+        logger.info("GET /api/reports/employees - departmentId: {}", departmentId);
+        ResponseBodyEmitter emitter = exportService.exportEmployees(departmentId);
+        return ResponseEntity.ok()
+                .contentType(EmployeeExportService.TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("employees.csv").build().toString())
+                .body(emitter);
+    }
+}
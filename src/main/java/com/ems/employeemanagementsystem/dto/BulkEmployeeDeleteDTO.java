@@ -0,0 +1,21 @@
+package com.ems.employeemanagementsystem.dto;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+public class BulkEmployeeDeleteDTO {
+
+    @NotEmpty(message = "At least one employee id is required")
+    private List<@NotNull(message = "Employee ids must not be null") Long> ids;
+
+    public BulkEmployeeDeleteDTO() {
+    }
+
+    public BulkEmployeeDeleteDTO(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+}
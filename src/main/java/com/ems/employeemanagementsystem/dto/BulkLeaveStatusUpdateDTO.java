@@ -0,0 +1,29 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.ems.employeemanagementsystem.entity.enums.LeaveStatus;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+public class BulkLeaveStatusUpdateDTO {
+
+    @NotEmpty(message = "At least one leave request id is required")
+    private List<@NotNull(message = "Leave request ids must not be null") Long> ids;
+
+    @NotNull(message = "Status is required")
+    private LeaveStatus status;
+
+    public BulkLeaveStatusUpdateDTO() {
+    }
+
+    public BulkLeaveStatusUpdateDTO(List<Long> ids, LeaveStatus status) {
+        this.ids = ids;
+        this.status = status;
+    }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+    public LeaveStatus getStatus() { return status; }
+    public void setStatus(LeaveStatus status) { this.status = status; }
+}
@@ -0,0 +1,64 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// A committed change as pushed to stream subscribers or read from the change feed. data is the entity after the
+// change and is absent on delete; sequence is only set for feed entries.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEventDTO {
+
+    private Long sequence;
+    private String entity;
+    private ChangeType type;
+    private Long id;
+    private Long departmentId;
+    private Object data;
+
+    public ChangeEventDTO() {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Long sequence;
+        private String entity;
+        private ChangeType type;
+        private Long id;
+        private Long departmentId;
+        private Object data;
+
+        public Builder sequence(Long sequence) { this.sequence = sequence; return this; }
+        public Builder entity(String entity) { this.entity = entity; return this; }
+        public Builder type(ChangeType type) { this.type = type; return this; }
+        public Builder id(Long id) { this.id = id; return this; }
+        public Builder departmentId(Long departmentId) { this.departmentId = departmentId; return this; }
+        public Builder data(Object data) { this.data = data; return this; }
+
+        public ChangeEventDTO build() {
+            ChangeEventDTO e = new ChangeEventDTO();
+            e.setSequence(this.sequence);
+            e.setEntity(this.entity);
+            e.setType(this.type);
+            e.setId(this.id);
+            e.setDepartmentId(this.departmentId);
+            e.setData(this.data);
+            return e;
+        }
+    }
+
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
+    public String getEntity() { return entity; }
+    public void setEntity(String entity) { this.entity = entity; }
+    public ChangeType getType() { return type; }
+    public void setType(ChangeType type) { this.type = type; }
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getDepartmentId() { return departmentId; }
+    public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+    public Object getData() { return data; }
+    public void setData(Object data) { this.data = data; }
+}
@@ -0,0 +1,44 @@
+package com.ems.employeemanagementsystem.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// One batch of the change feed. nextToken is passed back as ?since= and is unchanged when there was nothing new.
+public class ChangeFeedDTO {
+
+    private List<ChangeEventDTO> changes = new ArrayList<>();
+    private String nextToken;
+    private boolean hasMore;
+
+    public ChangeFeedDTO() {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private List<ChangeEventDTO> changes;
+        private String nextToken;
+        private boolean hasMore;
+
+        public Builder changes(List<ChangeEventDTO> changes) { this.changes = changes; return this; }
+        public Builder nextToken(String nextToken) { this.nextToken = nextToken; return this; }
+        public Builder hasMore(boolean hasMore) { this.hasMore = hasMore; return this; }
+
+        public ChangeFeedDTO build() {
+            ChangeFeedDTO f = new ChangeFeedDTO();
+            f.setChanges(this.changes);
+            f.setNextToken(this.nextToken);
+            f.setHasMore(this.hasMore);
+            return f;
+        }
+    }
+
+    public List<ChangeEventDTO> getChanges() { return changes; }
+    public void setChanges(List<ChangeEventDTO> changes) { this.changes = changes != null ? changes : new ArrayList<>(); }
+    public String getNextToken() { return nextToken; }
+    public void setNextToken(String nextToken) { this.nextToken = nextToken; }
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
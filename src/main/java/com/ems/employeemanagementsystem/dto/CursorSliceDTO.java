@@ -0,0 +1,53 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// One keyset page. nextCursor is passed back as ?cursor= for the following page and is absent on the last one.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorSliceDTO<T> {
+
+    private List<T> content = new ArrayList<>();
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public CursorSliceDTO() {
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<T> {
+        private List<T> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+
+        public Builder<T> content(List<T> content) { this.content = content; return this; }
+        public Builder<T> size(int size) { this.size = size; return this; }
+        public Builder<T> hasNext(boolean hasNext) { this.hasNext = hasNext; return this; }
+        public Builder<T> nextCursor(String nextCursor) { this.nextCursor = nextCursor; return this; }
+
+        public CursorSliceDTO<T> build() {
+            CursorSliceDTO<T> s = new CursorSliceDTO<>();
+            s.setContent(this.content);
+            s.setSize(this.size);
+            s.setHasNext(this.hasNext);
+            s.setNextCursor(this.nextCursor);
+            return s;
+        }
+    }
+
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content != null ? content : new ArrayList<>(); }
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
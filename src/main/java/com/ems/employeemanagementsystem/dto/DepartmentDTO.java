@@ -1,6 +1,7 @@
 package com.ems.employeemanagementsystem.dto;
 
 import javax.validation.constraints.NotBlank;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public class DepartmentDTO {
@@ -14,6 +15,11 @@ public class DepartmentDTO {
 
     private LocalDateTime createdAt;
 
+    // Read-only: filled from the department counters, ignored on create.
+    private Long headcount;
+
+    private BigDecimal salaryTotal;
+
     public DepartmentDTO() {
     }
 
@@ -33,11 +39,15 @@ public class DepartmentDTO {
         private String departmentName;
         private String location;
         private LocalDateTime createdAt;
+        private Long headcount;
+        private BigDecimal salaryTotal;
 
         public Builder id(Long id) { this.id = id; return this; }
         public Builder departmentName(String departmentName) { this.departmentName = departmentName; return this; }
         public Builder location(String location) { this.location = location; return this; }
         public Builder createdAt(LocalDateTime createdAt) { this.createdAt = createdAt; return this; }
+        public Builder headcount(Long headcount) { this.headcount = headcount; return this; }
+        public Builder salaryTotal(BigDecimal salaryTotal) { this.salaryTotal = salaryTotal; return this; }
 
         public DepartmentDTO build() {
             DepartmentDTO d = new DepartmentDTO();
@@ -45,6 +55,8 @@ public class DepartmentDTO {
             d.setDepartmentName(this.departmentName);
             d.setLocation(this.location);
             d.setCreatedAt(this.createdAt);
+            d.setHeadcount(this.headcount);
+            d.setSalaryTotal(this.salaryTotal);
             return d;
         }
     }
@@ -57,4 +69,8 @@ public class DepartmentDTO {
     public void setLocation(String location) { this.location = location; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public Long getHeadcount() { return headcount; }
+    public void setHeadcount(Long headcount) { this.headcount = headcount; }
+    public BigDecimal getSalaryTotal() { return salaryTotal; }
+    public void setSalaryTotal(BigDecimal salaryTotal) { this.salaryTotal = salaryTotal; }
 }
@@ -0,0 +1,19 @@
+package com.ems.employeemanagementsystem.dto;
+
+import javax.validation.constraints.NotNull;
+
+public class DepartmentMergeDTO {
+
+    @NotNull(message = "Target department ID is required")
+    private Long targetDepartmentId;
+
+    public DepartmentMergeDTO() {
+    }
+
+    public DepartmentMergeDTO(Long targetDepartmentId) {
+        this.targetDepartmentId = targetDepartmentId;
+    }
+
+    public Long getTargetDepartmentId() { return targetDepartmentId; }
+    public void setTargetDepartmentId(Long targetDepartmentId) { this.targetDepartmentId = targetDepartmentId; }
+}
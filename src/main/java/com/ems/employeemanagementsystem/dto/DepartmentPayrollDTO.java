@@ -0,0 +1,71 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+
+// Headcount and salary figures for one department, or for the whole company when departmentId is absent.
+// Salary figures only count employees with a salary and are absent when nobody has one.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DepartmentPayrollDTO {
+
+    private Long departmentId;
+    private String departmentName;
+    private long headcount;
+    private BigDecimal totalSalary;
+    private BigDecimal meanSalary;
+    private BigDecimal medianSalary;
+    private BigDecimal p90Salary;
+
+    public DepartmentPayrollDTO() {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Long departmentId;
+        private String departmentName;
+        private long headcount;
+        private BigDecimal totalSalary;
+        private BigDecimal meanSalary;
+        private BigDecimal medianSalary;
+        private BigDecimal p90Salary;
+
+        public Builder departmentId(Long departmentId) { this.departmentId = departmentId; return this; }
+        public Builder departmentName(String departmentName) { this.departmentName = departmentName; return this; }
+        public Builder headcount(long headcount) { this.headcount = headcount; return this; }
+        public Builder totalSalary(BigDecimal totalSalary) { this.totalSalary = totalSalary; return this; }
+        public Builder meanSalary(BigDecimal meanSalary) { this.meanSalary = meanSalary; return this; }
+        public Builder medianSalary(BigDecimal medianSalary) { this.medianSalary = medianSalary; return this; }
+        public Builder p90Salary(BigDecimal p90Salary) { this.p90Salary = p90Salary; return this; }
+
+        public DepartmentPayrollDTO build() {
+            DepartmentPayrollDTO d = new DepartmentPayrollDTO();
+            d.setDepartmentId(this.departmentId);
+            d.setDepartmentName(this.departmentName);
+            d.setHeadcount(this.headcount);
+            d.setTotalSalary(this.totalSalary);
+            d.setMeanSalary(this.meanSalary);
+            d.setMedianSalary(this.medianSalary);
+            d.setP90Salary(this.p90Salary);
+            return d;
+        }
+    }
+
+    public Long getDepartmentId() { return departmentId; }
+    public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+    public String getDepartmentName() { return departmentName; }
+    public void setDepartmentName(String departmentName) { this.departmentName = departmentName; }
+    public long getHeadcount() { return headcount; }
+    public void setHeadcount(long headcount) { this.headcount = headcount; }
+    public BigDecimal getTotalSalary() { return totalSalary; }
+    public void setTotalSalary(BigDecimal totalSalary) { this.totalSalary = totalSalary; }
+    public BigDecimal getMeanSalary() { return meanSalary; }
+    public void setMeanSalary(BigDecimal meanSalary) { this.meanSalary = meanSalary; }
+    public BigDecimal getMedianSalary() { return medianSalary; }
+    public void setMedianSalary(BigDecimal medianSalary) { this.medianSalary = medianSalary; }
+    public BigDecimal getP90Salary() { return p90Salary; }
+    public void setP90Salary(BigDecimal p90Salary) { this.p90Salary = p90Salary; }
+}
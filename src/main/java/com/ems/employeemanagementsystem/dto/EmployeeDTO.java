@@ -31,6 +31,9 @@ public class EmployeeDTO {
 
     private LocalDateTime updatedAt;
 
+    // Optional on PUT: when sent, it must equal the stored version or the update is rejected with 409.
+    private Long version;
+
     public EmployeeDTO() {
     }
 
@@ -48,6 +51,7 @@ public class EmployeeDTO {
         private LocalDate joiningDate;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        private Long version;
 
         public Builder id(Long id) { this.id = id; return this; }
         public Builder fullName(String fullName) { this.fullName = fullName; return this; }
@@ -58,6 +62,7 @@ public class EmployeeDTO {
         public Builder joiningDate(LocalDate joiningDate) { this.joiningDate = joiningDate; return this; }
         public Builder createdAt(LocalDateTime createdAt) { this.createdAt = createdAt; return this; }
         public Builder updatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; return this; }
+        public Builder version(Long version) { this.version = version; return this; }
 
         public EmployeeDTO build() {
             EmployeeDTO e = new EmployeeDTO();
@@ -70,6 +75,7 @@ public class EmployeeDTO {
             e.setJoiningDate(this.joiningDate);
             e.setCreatedAt(this.createdAt);
             e.setUpdatedAt(this.updatedAt);
+            e.setVersion(this.version);
             return e;
         }
     }
@@ -92,4 +98,6 @@ public class EmployeeDTO {
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
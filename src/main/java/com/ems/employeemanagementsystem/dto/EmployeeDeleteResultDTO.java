@@ -0,0 +1,26 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Result of a bulk delete. notFound lists requested ids that did not exist; absent for a delete by department.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeDeleteResultDTO {
+
+    private int deleted;
+    private List<Long> notFound;
+
+    public EmployeeDeleteResultDTO() {
+    }
+
+    public EmployeeDeleteResultDTO(int deleted, List<Long> notFound) {
+        this.deleted = deleted;
+        this.notFound = notFound;
+    }
+
+    public int getDeleted() { return deleted; }
+    public void setDeleted(int deleted) { this.deleted = deleted; }
+    public List<Long> getNotFound() { return notFound; }
+    public void setNotFound(List<Long> notFound) { this.notFound = notFound; }
+}
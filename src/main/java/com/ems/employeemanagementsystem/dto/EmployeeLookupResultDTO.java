@@ -0,0 +1,36 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// One entry per requested id, in request order. employee is omitted when the id does not exist.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeLookupResultDTO {
+
+    private Long id;
+    private boolean found;
+    private EmployeeDTO employee;
+
+    public EmployeeLookupResultDTO() {
+    }
+
+    public EmployeeLookupResultDTO(Long id, boolean found, EmployeeDTO employee) {
+        this.id = id;
+        this.found = found;
+        this.employee = employee;
+    }
+
+    public static EmployeeLookupResultDTO found(EmployeeDTO employee) {
+        return new EmployeeLookupResultDTO(employee.getId(), true, employee);
+    }
+
+    public static EmployeeLookupResultDTO missing(Long id) {
+        return new EmployeeLookupResultDTO(id, false, null);
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public boolean isFound() { return found; }
+    public void setFound(boolean found) { this.found = found; }
+    public EmployeeDTO getEmployee() { return employee; }
+    public void setEmployee(EmployeeDTO employee) { this.employee = employee; }
+}
@@ -0,0 +1,31 @@
+package com.ems.employeemanagementsystem.dto;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+// Selects the employees to move by id, by current department, or both (ids that are in that department).
+public class EmployeeReassignDTO {
+
+    private List<@NotNull(message = "Employee ids must not be null") Long> ids;
+
+    private Long fromDepartmentId;
+
+    @NotNull(message = "Target department ID is required")
+    private Long toDepartmentId;
+
+    public EmployeeReassignDTO() {
+    }
+
+    public EmployeeReassignDTO(List<Long> ids, Long fromDepartmentId, Long toDepartmentId) {
+        this.ids = ids;
+        this.fromDepartmentId = fromDepartmentId;
+        this.toDepartmentId = toDepartmentId;
+    }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+    public Long getFromDepartmentId() { return fromDepartmentId; }
+    public void setFromDepartmentId(Long fromDepartmentId) { this.fromDepartmentId = fromDepartmentId; }
+    public Long getToDepartmentId() { return toDepartmentId; }
+    public void setToDepartmentId(Long toDepartmentId) { this.toDepartmentId = toDepartmentId; }
+}
@@ -0,0 +1,26 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Result of a bulk move. notFound lists requested ids that did not exist; absent when selecting by department.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeReassignResultDTO {
+
+    private int moved;
+    private List<Long> notFound;
+
+    public EmployeeReassignResultDTO() {
+    }
+
+    public EmployeeReassignResultDTO(int moved, List<Long> notFound) {
+        this.moved = moved;
+        this.notFound = notFound;
+    }
+
+    public int getMoved() { return moved; }
+    public void setMoved(int moved) { this.moved = moved; }
+    public List<Long> getNotFound() { return notFound; }
+    public void setNotFound(List<Long> notFound) { this.notFound = notFound; }
+}
@@ -0,0 +1,25 @@
+package com.ems.employeemanagementsystem.dto;
+
+// Autocomplete entry, served from the search index without a database read.
+public class EmployeeSuggestionDTO {
+
+    private Long id;
+    private String fullName;
+    private String email;
+
+    public EmployeeSuggestionDTO() {
+    }
+
+    public EmployeeSuggestionDTO(Long id, String fullName, String email) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getFullName() { return fullName; }
+    public void setFullName(String fullName) { this.fullName = fullName; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+}
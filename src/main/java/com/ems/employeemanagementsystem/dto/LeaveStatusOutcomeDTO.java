@@ -0,0 +1,35 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.ems.employeemanagementsystem.entity.enums.LeaveStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Result of one id in a bulk status update. status is the request's status after the call, absent when not found.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LeaveStatusOutcomeDTO {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_PENDING,
+        NOT_FOUND
+    }
+
+    private Long id;
+    private Outcome outcome;
+    private LeaveStatus status;
+
+    public LeaveStatusOutcomeDTO() {
+    }
+
+    public LeaveStatusOutcomeDTO(Long id, Outcome outcome, LeaveStatus status) {
+        this.id = id;
+        this.outcome = outcome;
+        this.status = status;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Outcome getOutcome() { return outcome; }
+    public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+    public LeaveStatus getStatus() { return status; }
+    public void setStatus(LeaveStatus status) { this.status = status; }
+}
@@ -0,0 +1,26 @@
+package com.ems.employeemanagementsystem.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Company-wide figures plus one entry per department, ordered by department id.
+public class PayrollSummaryDTO {
+
+    private DepartmentPayrollDTO company;
+    private List<DepartmentPayrollDTO> departments = new ArrayList<>();
+
+    public PayrollSummaryDTO() {
+    }
+
+    public PayrollSummaryDTO(DepartmentPayrollDTO company, List<DepartmentPayrollDTO> departments) {
+        this.company = company;
+        setDepartments(departments);
+    }
+
+    public DepartmentPayrollDTO getCompany() { return company; }
+    public void setCompany(DepartmentPayrollDTO company) { this.company = company; }
+    public List<DepartmentPayrollDTO> getDepartments() { return departments; }
+    public void setDepartments(List<DepartmentPayrollDTO> departments) {
+        this.departments = departments != null ? departments : new ArrayList<>();
+    }
+}
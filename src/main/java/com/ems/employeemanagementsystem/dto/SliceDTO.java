@@ -0,0 +1,59 @@
+package com.ems.employeemanagementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// One page of results without an exact total. approximateTotal is only present when the caller asked for it.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SliceDTO<T> {
+
+    private List<T> content = new ArrayList<>();
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long approximateTotal;
+
+    public SliceDTO() {
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<T> {
+        private List<T> content;
+        private int page;
+        private int size;
+        private boolean hasNext;
+        private Long approximateTotal;
+
+        public Builder<T> content(List<T> content) { this.content = content; return this; }
+        public Builder<T> page(int page) { this.page = page; return this; }
+        public Builder<T> size(int size) { this.size = size; return this; }
+        public Builder<T> hasNext(boolean hasNext) { this.hasNext = hasNext; return this; }
+        public Builder<T> approximateTotal(Long approximateTotal) { this.approximateTotal = approximateTotal; return this; }
+
+        public SliceDTO<T> build() {
+            SliceDTO<T> s = new SliceDTO<>();
+            s.setContent(this.content);
+            s.setPage(this.page);
+            s.setSize(this.size);
+            s.setHasNext(this.hasNext);
+            s.setApproximateTotal(this.approximateTotal);
+            return s;
+        }
+    }
+
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content != null ? content : new ArrayList<>(); }
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+    public Long getApproximateTotal() { return approximateTotal; }
+    public void setApproximateTotal(Long approximateTotal) { this.approximateTotal = approximateTotal; }
+}
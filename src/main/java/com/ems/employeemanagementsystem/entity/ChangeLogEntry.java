@@ -0,0 +1,90 @@
+package com.ems.employeemanagementsystem.entity;
+
+import com.ems.employeemanagementsystem.event.ChangeType;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_changed_at", columnList = "changed_at")
+})
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq")
+    private Long sequence;
+
+    @Column(name = "entity", nullable = false, length = 32)
+    private String entity;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    // JSON of the entity after the change; null for deletes.
+    @Column(name = "payload", columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public ChangeLogEntry() {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Long sequence;
+        private String entity;
+        private Long entityId;
+        private ChangeType changeType;
+        private Long departmentId;
+        private String payload;
+        private LocalDateTime changedAt;
+
+        public Builder sequence(Long sequence) { this.sequence = sequence; return this; }
+        public Builder entity(String entity) { this.entity = entity; return this; }
+        public Builder entityId(Long entityId) { this.entityId = entityId; return this; }
+        public Builder changeType(ChangeType changeType) { this.changeType = changeType; return this; }
+        public Builder departmentId(Long departmentId) { this.departmentId = departmentId; return this; }
+        public Builder payload(String payload) { this.payload = payload; return this; }
+        public Builder changedAt(LocalDateTime changedAt) { this.changedAt = changedAt; return this; }
+
+        public ChangeLogEntry build() {
+            ChangeLogEntry c = new ChangeLogEntry();
+            c.setSequence(this.sequence);
+            c.setEntity(this.entity);
+            c.setEntityId(this.entityId);
+            c.setChangeType(this.changeType);
+            c.setDepartmentId(this.departmentId);
+            c.setPayload(this.payload);
+            c.setChangedAt(this.changedAt);
+            return c;
+        }
+    }
+
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
+    public String getEntity() { return entity; }
+    public void setEntity(String entity) { this.entity = entity; }
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+    public ChangeType getChangeType() { return changeType; }
+    public void setChangeType(ChangeType changeType) { this.changeType = changeType; }
+    public Long getDepartmentId() { return departmentId; }
+    public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+}
@@ -0,0 +1,36 @@
+package com.ems.employeemanagementsystem.entity;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+
+// Running totals for one department. Updated with relative UPDATEs so concurrent writers never lose a change.
+@Entity
+@Table(name = "department_stats")
+public class DepartmentStats {
+
+    @Id
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "headcount", nullable = false)
+    private long headcount;
+
+    @Column(name = "salary_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal salaryTotal = BigDecimal.ZERO;
+
+    public DepartmentStats() {
+    }
+
+    public DepartmentStats(Long departmentId, long headcount, BigDecimal salaryTotal) {
+        this.departmentId = departmentId;
+        this.headcount = headcount;
+        this.salaryTotal = salaryTotal;
+    }
+
+    public Long getDepartmentId() { return departmentId; }
+    public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+    public long getHeadcount() { return headcount; }
+    public void setHeadcount(long headcount) { this.headcount = headcount; }
+    public BigDecimal getSalaryTotal() { return salaryTotal; }
+    public void setSalaryTotal(BigDecimal salaryTotal) { this.salaryTotal = salaryTotal; }
+}
@@ -1,6 +1,7 @@
 package com.ems.employeemanagementsystem.entity;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
@@ -14,7 +15,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_department_name", columnList = "department_id, full_name"),
+        @Index(name = "idx_employees_joining_date", columnList = "joining_date"),
+        @Index(name = "idx_employees_full_name", columnList = "full_name")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_employees_email", columnNames = "email")
+})
+// Updates list only the changed columns, so a salary edit does not rewrite the name, email and indexed columns.
+@DynamicUpdate
 public class Employee {
 
     @Id
@@ -28,7 +37,7 @@ public class Employee {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
-    @Column(name = "email", unique = true, nullable = false)
+    @Column(name = "email", nullable = false)
     private String email;
 
     @NotNull(message = "Department is required")
@@ -50,6 +59,11 @@ public class Employee {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped on every write, bulk JPQL updates included; a flush against a stale version fails instead of overwriting.
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "employee", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<LeaveRequest> leaveRequests = new ArrayList<>();
 
@@ -109,6 +123,8 @@ public class Employee {
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
     public List<LeaveRequest> getLeaveRequests() { return leaveRequests; }
     public void setLeaveRequests(List<LeaveRequest> leaveRequests) { this.leaveRequests = leaveRequests != null ? leaveRequests : new ArrayList<>(); }
 }
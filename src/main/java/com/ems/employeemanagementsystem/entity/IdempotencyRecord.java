@@ -0,0 +1,99 @@
+package com.ems.employeemanagementsystem.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// The response recorded for one Idempotency-Key; responseStatus is null while the first request is still running.
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord {
+
+    // SHA-256 of the caller, method, path and client key, so keys from different users never collide.
+    @Id
+    @Column(name = "idempotency_key", length = 64)
+    private String key;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "location", length = 2048)
+    private String location;
+
+    @Column(name = "response_body", columnDefinition = "LONGTEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyRecord() {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String key;
+        private String requestHash;
+        private Integer responseStatus;
+        private String contentType;
+        private String location;
+        private String responseBody;
+        private LocalDateTime createdAt;
+        private LocalDateTime expiresAt;
+
+        public Builder key(String key) { this.key = key; return this; }
+        public Builder requestHash(String requestHash) { this.requestHash = requestHash; return this; }
+        public Builder responseStatus(Integer responseStatus) { this.responseStatus = responseStatus; return this; }
+        public Builder contentType(String contentType) { this.contentType = contentType; return this; }
+        public Builder location(String location) { this.location = location; return this; }
+        public Builder responseBody(String responseBody) { this.responseBody = responseBody; return this; }
+        public Builder createdAt(LocalDateTime createdAt) { this.createdAt = createdAt; return this; }
+        public Builder expiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; return this; }
+
+        public IdempotencyRecord build() {
+            IdempotencyRecord r = new IdempotencyRecord();
+            r.setKey(this.key);
+            r.setRequestHash(this.requestHash);
+            r.setResponseStatus(this.responseStatus);
+            r.setContentType(this.contentType);
+            r.setLocation(this.location);
+            r.setResponseBody(this.responseBody);
+            r.setCreatedAt(this.createdAt);
+            r.setExpiresAt(this.expiresAt);
+            return r;
+        }
+    }
+
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+    public String getRequestHash() { return requestHash; }
+    public void setRequestHash(String requestHash) { this.requestHash = requestHash; }
+    public Integer getResponseStatus() { return responseStatus; }
+    public void setResponseStatus(Integer responseStatus) { this.responseStatus = responseStatus; }
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    public String getResponseBody() { return responseBody; }
+    public void setResponseBody(String responseBody) { this.responseBody = responseBody; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -9,7 +9,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "leave_requests")
+@Table(name = "leave_requests", indexes = {
+        @Index(name = "idx_leave_requests_employee_created", columnList = "employee_id, created_at"),
+        @Index(name = "idx_leave_requests_status_created", columnList = "status, created_at")
+})
 public class LeaveRequest {
 
     @Id
@@ -41,6 +44,10 @@ public class LeaveRequest {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public LeaveRequest() {
     }
 
@@ -92,4 +99,6 @@ public class LeaveRequest {
     public void setReason(String reason) { this.reason = reason; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -0,0 +1,7 @@
+package com.ems.employeemanagementsystem.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
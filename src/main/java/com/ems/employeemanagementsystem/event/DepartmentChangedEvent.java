@@ -0,0 +1,21 @@
+package com.ems.employeemanagementsystem.event;
+
+import com.ems.employeemanagementsystem.dto.DepartmentDTO;
+
+// Published by DepartmentService inside the write transaction. after is null on delete.
+public class DepartmentChangedEvent {
+
+    private final ChangeType type;
+    private final Long departmentId;
+    private final DepartmentDTO after;
+
+    public DepartmentChangedEvent(ChangeType type, Long departmentId, DepartmentDTO after) {
+        this.type = type;
+        this.departmentId = departmentId;
+        this.after = after;
+    }
+
+    public ChangeType getType() { return type; }
+    public Long getDepartmentId() { return departmentId; }
+    public DepartmentDTO getAfter() { return after; }
+}
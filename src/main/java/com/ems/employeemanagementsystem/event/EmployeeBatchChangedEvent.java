@@ -0,0 +1,15 @@
+package com.ems.employeemanagementsystem.event;
+
+import java.util.List;
+
+// Published once by EmployeeService for a bulk delete or move instead of one EmployeeChangedEvent per employee.
+public class EmployeeBatchChangedEvent {
+
+    private final List<EmployeeChangedEvent> changes;
+
+    public EmployeeBatchChangedEvent(List<EmployeeChangedEvent> changes) {
+        this.changes = changes;
+    }
+
+    public List<EmployeeChangedEvent> getChanges() { return changes; }
+}
@@ -0,0 +1,24 @@
+package com.ems.employeemanagementsystem.event;
+
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+
+// Published by EmployeeService inside the write transaction. before is null on create, after is null on delete.
+public class EmployeeChangedEvent {
+
+    private final ChangeType type;
+    private final Long employeeId;
+    private final EmployeeDTO before;
+    private final EmployeeDTO after;
+
+    public EmployeeChangedEvent(ChangeType type, Long employeeId, EmployeeDTO before, EmployeeDTO after) {
+        this.type = type;
+        this.employeeId = employeeId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public ChangeType getType() { return type; }
+    public Long getEmployeeId() { return employeeId; }
+    public EmployeeDTO getBefore() { return before; }
+    public EmployeeDTO getAfter() { return after; }
+}
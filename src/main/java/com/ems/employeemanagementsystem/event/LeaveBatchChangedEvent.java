@@ -0,0 +1,15 @@
+package com.ems.employeemanagementsystem.event;
+
+import java.util.List;
+
+// Published once by LeaveRequestService for a bulk status decision instead of one LeaveChangedEvent per request.
+public class LeaveBatchChangedEvent {
+
+    private final List<LeaveChangedEvent> changes;
+
+    public LeaveBatchChangedEvent(List<LeaveChangedEvent> changes) {
+        this.changes = changes;
+    }
+
+    public List<LeaveChangedEvent> getChanges() { return changes; }
+}
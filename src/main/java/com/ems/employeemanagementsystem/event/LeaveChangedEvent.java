@@ -0,0 +1,21 @@
+package com.ems.employeemanagementsystem.event;
+
+import com.ems.employeemanagementsystem.dto.LeaveRequestDTO;
+
+// Published by LeaveRequestService inside the write transaction when a request is submitted or decided.
+public class LeaveChangedEvent {
+
+    private final ChangeType type;
+    private final LeaveRequestDTO leave;
+    private final Long departmentId;
+
+    public LeaveChangedEvent(ChangeType type, LeaveRequestDTO leave, Long departmentId) {
+        this.type = type;
+        this.leave = leave;
+        this.departmentId = departmentId;
+    }
+
+    public ChangeType getType() { return type; }
+    public LeaveRequestDTO getLeave() { return leave; }
+    public Long getDepartmentId() { return departmentId; }
+}
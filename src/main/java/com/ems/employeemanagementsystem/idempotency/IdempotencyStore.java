@@ -0,0 +1,139 @@
+package com.ems.employeemanagementsystem.idempotency;
+
+import com.ems.employeemanagementsystem.entity.IdempotencyRecord;
+import com.ems.employeemanagementsystem.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Recorded responses per idempotency key. The idempotency_keys table is the source of truth and is shared by all
+ * instances; completed responses are also kept in a bounded in-memory map, so a retry on the same instance is
+ * answered without a database read.
+ *
+ * A key is claimed with a plain INSERT before the request runs. The claim expires after the in-progress timeout,
+ * so a key whose request died with its instance can be used again; a completed response is kept for the TTL.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Map<String, IdempotencyRecord> completed;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+                            @Value("${app.idempotency.in-progress-timeout-ms:60000}") long inProgressTimeoutMs,
+                            @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inProgressTimeout = Duration.ofMillis(inProgressTimeoutMs);
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<String, IdempotencyRecord>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    // A completed response remembered by this instance, or null.
+    public IdempotencyRecord cached(String key) {
+        IdempotencyRecord record = completed.get(key);
+        if (record != null && !record.getExpiresAt().isAfter(LocalDateTime.now())) {
+            completed.remove(key, record);
+            return null;
+        }
+        return record;
+    }
+
+    /**
+     * Claims the key for a request about to run. Returns null when the caller now owns the key, otherwise the
+     * record that already holds it: a completed response to replay, or one still in progress elsewhere.
+     */
+    public IdempotencyRecord claim(String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return transactionTemplate.execute(status -> {
+                repository.deleteExpired(key, now);
+                IdempotencyRecord existing = repository.findById(key).orElse(null);
+                if (existing == null) {
+                    repository.insertInProgress(key, requestHash, now, now.plus(inProgressTimeout));
+                } else if (existing.isCompleted()) {
+                    completed.put(key, existing);
+                }
+                return existing;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another instance inserted the key between our read and insert; it owns the request.
+            return repository.findById(key).orElseGet(() -> IdempotencyRecord.builder()
+                    .key(key)
+                    .requestHash(requestHash)
+                    .createdAt(now)
+                    .expiresAt(now.plus(inProgressTimeout))
+                    .build());
+        }
+    }
+
+    /**
+     * Records the response of a claimed key. The request has already committed its work, so a failure to store
+     * the response is logged rather than failing the request; the response is then only replayed by this instance.
+     */
+    public IdempotencyRecord complete(String key, String requestHash, int status, String contentType,
+                                      String location, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .key(key)
+                .requestHash(requestHash)
+                .responseStatus(status)
+                .contentType(contentType)
+                .location(location)
+                .responseBody(body)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build();
+        completed.put(key, record);
+        try {
+            transactionTemplate.executeWithoutResult(tx ->
+                    repository.complete(key, status, contentType, location, body, record.getExpiresAt()));
+        } catch (DataAccessException e) {
+            logger.error("Could not record the response for an idempotency key: {}", e.getMessage());
+        }
+        return record;
+    }
+
+    // Frees a claimed key whose request failed, so that a retry runs it again.
+    public void release(String key) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> repository.deleteInProgress(key));
+        } catch (DataAccessException e) {
+            logger.error("Could not release an idempotency key, it frees up after the in-progress timeout: {}",
+                    e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.prune-interval-ms:600000}")
+    public void pruneExpired() {
+        Integer deleted = transactionTemplate.execute(tx -> repository.deleteAllExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            logger.info("Pruned {} expired idempotency keys", deleted);
+        }
+    }
+}
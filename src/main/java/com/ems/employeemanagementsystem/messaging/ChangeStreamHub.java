@@ -0,0 +1,328 @@
+package com.ems.employeemanagementsystem.messaging;
+
+import com.ems.employeemanagementsystem.dto.ChangeEventDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.event.LeaveBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.LeaveChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes committed employee and leave changes to Server-Sent Events subscribers.
+ *
+ * Each change is serialized once and offered to the bounded queue of every matching subscriber; the committing
+ * thread never writes to a socket. A small dispatcher pool drains the queues, one drain at a time per
+ * subscriber. A subscriber whose queue is full is too slow to keep up and is disconnected; it can reconnect
+ * and catch up from the change feed. A bulk write arrives as one batch event and is sent as one message, so its
+ * size does not count against the buffer.
+ */
+@Component
+public class ChangeStreamHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamHub.class);
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final ExecutorService dispatcher;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Runnable afterDrain;
+
+    @Autowired
+    public ChangeStreamHub(ObjectMapper objectMapper,
+                           @Value("${app.sse.timeout-ms:1800000}") long timeoutMillis,
+                           @Value("${app.sse.buffer-size:256}") int bufferSize,
+                           @Value("${app.sse.dispatch-threads:4}") int dispatchThreads) {
+        this(objectMapper, timeoutMillis, bufferSize, dispatchThreads, () -> { });
+    }
+
+    // afterDrain runs once a drain has emptied a queue, just before its draining flag is cleared.
+    ChangeStreamHub(ObjectMapper objectMapper, long timeoutMillis, int bufferSize, int dispatchThreads,
+                    Runnable afterDrain) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.afterDrain = afterDrain;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens a stream of changes, limited to one department when {@code departmentId} is given.
+     */
+    public SseEmitter subscribe(Long departmentId) {
+        return subscribe(departmentId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(Long departmentId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, departmentId, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        // Commits the response headers right away so the client sees the stream as open.
+        enqueue(subscriber, StreamEvent.comment("connected"));
+        logger.info("SSE subscriber connected. departmentId: {}, subscribers: {}", departmentId, subscribers.size());
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        broadcast("employee", Routed.of(event));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesChanged(EmployeeBatchChangedEvent batch) {
+        broadcastBatch("employees", batch.getChanges().stream().map(Routed::of).collect(Collectors.toList()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLeaveChanged(LeaveChangedEvent event) {
+        broadcast("leave", Routed.of(event));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLeavesChanged(LeaveBatchChangedEvent batch) {
+        broadcastBatch("leaves", batch.getChanges().stream().map(Routed::of).collect(Collectors.toList()));
+    }
+
+    // Keeps idle connections open through proxies and surfaces clients that went away without closing.
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, StreamEvent.comment("keepalive"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    private void broadcast(String name, Routed change) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        StreamEvent event = serialize(sequence.incrementAndGet(), name, change.change);
+        if (event == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(change.departmentA, change.departmentB)) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+
+    /**
+     * Sends a bulk write as one message holding its changes. A subscriber limited to one department gets only the
+     * changes that touch it, and nothing when there are none; each distinct filter is serialized once.
+     */
+    private void broadcastBatch(String name, List<Routed> changes) {
+        if (subscribers.isEmpty() || changes.isEmpty()) {
+            return;
+        }
+        long id = sequence.incrementAndGet();
+        Map<Long, StreamEvent> byDepartment = new HashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            Long departmentId = subscriber.departmentId;
+            if (!byDepartment.containsKey(departmentId)) {
+                List<ChangeEventDTO> matching = changes.stream()
+                        .filter(change -> subscriber.accepts(change.departmentA, change.departmentB))
+                        .map(change -> change.change)
+                        .collect(Collectors.toList());
+                byDepartment.put(departmentId, matching.isEmpty() ? null : serialize(id, name, matching));
+            }
+            StreamEvent event = byDepartment.get(departmentId);
+            if (event != null) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+
+    private StreamEvent serialize(long id, String name, Object data) {
+        try {
+            return StreamEvent.data(id, name, objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize {} event {}: {}", name, id, e.getMessage());
+            return null;
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, StreamEvent event) {
+        if (!subscriber.queue.offer(event)) {
+            evict(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            logger.warn("Disconnecting slow SSE subscriber. departmentId: {}, buffered: {}",
+                    subscriber.departmentId, subscriber.queue.size());
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            StreamEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event.toSse());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed.
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            subscriber.draining.set(false);
+            return;
+        }
+        afterDrain.run();
+        subscriber.draining.set(false);
+        // An event offered after the last poll but before the flag was cleared would otherwise wait for the next one.
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long departmentId;
+        private final BlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Long departmentId, int bufferSize) {
+            this.emitter = emitter;
+            this.departmentId = departmentId;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean accepts(Long departmentA, Long departmentB) {
+            return departmentId == null
+                    || Objects.equals(departmentId, departmentA)
+                    || Objects.equals(departmentId, departmentB);
+        }
+    }
+
+    // A change with the departments it touches: an employee move touches both the old and the new department.
+    private static final class Routed {
+        private final ChangeEventDTO change;
+        private final Long departmentA;
+        private final Long departmentB;
+
+        private Routed(ChangeEventDTO change, Long departmentA, Long departmentB) {
+            this.change = change;
+            this.departmentA = departmentA;
+            this.departmentB = departmentB;
+        }
+
+        static Routed of(EmployeeChangedEvent event) {
+            EmployeeDTO before = event.getBefore();
+            EmployeeDTO after = event.getAfter();
+            Long departmentBefore = before != null ? before.getDepartmentId() : null;
+            Long departmentAfter = after != null ? after.getDepartmentId() : null;
+            return new Routed(ChangeEventDTO.builder()
+                    .entity("employee")
+                    .type(event.getType())
+                    .id(event.getEmployeeId())
+                    .departmentId(departmentAfter != null ? departmentAfter : departmentBefore)
+                    .data(after)
+                    .build(), departmentBefore, departmentAfter);
+        }
+
+        static Routed of(LeaveChangedEvent event) {
+            return new Routed(ChangeEventDTO.builder()
+                    .entity("leave")
+                    .type(event.getType())
+                    .id(event.getLeave().getId())
+                    .departmentId(event.getDepartmentId())
+                    .data(event.getLeave())
+                    .build(), event.getDepartmentId(), null);
+        }
+    }
+
+    private static final class StreamEvent {
+        private final long id;
+        private final String name;
+        private final String json;
+        private final String comment;
+
+        private StreamEvent(long id, String name, String json, String comment) {
+            this.id = id;
+            this.name = name;
+            this.json = json;
+            this.comment = comment;
+        }
+
+        static StreamEvent data(long id, String name, String json) {
+            return new StreamEvent(id, name, json, null);
+        }
+
+        static StreamEvent comment(String comment) {
+            return new StreamEvent(0, null, null, comment);
+        }
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+}
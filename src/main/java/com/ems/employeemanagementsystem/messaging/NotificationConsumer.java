@@ -23,15 +23,25 @@ public class NotificationConsumer {
             logger.info("Purpose: {}", notification.getPurpose());
             logger.info("Timestamp: {}", notification.getTimestamp());
 
-            simulateEmailSending(
-                    notification.getEmployeeEmail(),
-                    "Welcome to the Company!",
-                    String.format("Dear %s,\n\nWelcome to the %s department! " +
-                                    "Your Employee ID is %d.\n\nBest regards,\nHR Team",
-                            notification.getEmployeeName(),
-                            notification.getDepartment(),
-                            notification.getEmployeeId())
-            );
+            if ("EMPLOYEE_TRANSFERRED".equals(notification.getType())) {
+                simulateEmailSending(
+                        notification.getEmployeeEmail(),
+                        "Department Change",
+                        String.format("Dear %s,\n\nYou are now part of the %s department.\n\nBest regards,\nHR Team",
+                                notification.getEmployeeName(),
+                                notification.getDepartment())
+                );
+            } else {
+                simulateEmailSending(
+                        notification.getEmployeeEmail(),
+                        "Welcome to the Company!",
+                        String.format("Dear %s,\n\nWelcome to the %s department! " +
+                                        "Your Employee ID is %d.\n\nBest regards,\nHR Team",
+                                notification.getEmployeeName(),
+                                notification.getDepartment(),
+                                notification.getEmployeeId())
+                );
+            }
 
             logger.info("========== EMPLOYEE NOTIFICATION PROCESSED ==========");
         } catch (Exception e) {
@@ -4,17 +4,28 @@ import com.ems.employeemanagementsystem.dto.NotificationDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.batch.MessageBatch;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 public class NotificationPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationPublisher.class);
 
+    // Upper bounds for one AMQP batch message; larger bulks are split into several messages.
+    private static final int MAX_BATCH_MESSAGES = 500;
+    private static final int MAX_BATCH_BYTES = 1024 * 1024;
+
     private final RabbitTemplate rabbitTemplate;
 
     @Value("${rabbitmq.exchange.name}")
@@ -65,4 +76,55 @@ public class NotificationPublisher {
             logger.error("Unexpected error publishing leave status notification: {}", e.getMessage(), e);
         }
     }
+
+    /**
+     * Publishes many leave status notifications as one AMQP message in Spring AMQP's batch format. The listener
+     * container splits it again, so the consumer still receives one NotificationDTO per leave request.
+     */
+    public void publishLeaveStatusNotifications(List<NotificationDTO> notifications) {
+        publishBatch(notifications, leaveRoutingKey, "LEAVE_STATUS_UPDATED", "Status update notification",
+                "leave status");
+    }
+
+    // Department transfers from a bulk reassignment or merge, batched the same way as leave status updates.
+    public void publishEmployeeTransferNotifications(List<NotificationDTO> notifications) {
+        publishBatch(notifications, employeeRoutingKey, "EMPLOYEE_TRANSFERRED", "Department transfer notification",
+                "employee transfer");
+    }
+
+    private void publishBatch(List<NotificationDTO> notifications, String routingKey, String type, String purpose,
+                              String description) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        try {
+            SimpleBatchingStrategy batchingStrategy =
+                    new SimpleBatchingStrategy(MAX_BATCH_MESSAGES, MAX_BATCH_BYTES, Long.MAX_VALUE);
+            MessageConverter converter = rabbitTemplate.getMessageConverter();
+            List<MessageBatch> batches = new ArrayList<>();
+            for (NotificationDTO notification : notifications) {
+                notification.setTimestamp(LocalDateTime.now());
+                notification.setType(type);
+                notification.setPurpose(purpose);
+
+                Message message = converter.toMessage(notification, new MessageProperties());
+                MessageBatch full = batchingStrategy.addToBatch(exchangeName, routingKey, message);
+                if (full != null) {
+                    batches.add(full);
+                }
+            }
+            batches.addAll(batchingStrategy.releaseBatches());
+
+            logger.info("Publishing {} {} notifications in {} batch message(s)",
+                    notifications.size(), description, batches.size());
+            for (MessageBatch batch : batches) {
+                rabbitTemplate.send(batch.getExchange(), batch.getRoutingKey(), batch.getMessage());
+            }
+        } catch (AmqpException e) {
+            logger.error("Failed to publish {} {} notifications. Error: {}",
+                    notifications.size(), description, e.getMessage(), e);
+        } catch (Exception e) {
+            logger.error("Unexpected error publishing {} notifications: {}", description, e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package com.ems.employeemanagementsystem.ratelimit;
+
+import com.ems.employeemanagementsystem.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for /api requests. A caller over its rate limit for the endpoint class gets 429 with
+ * Retry-After set to when its next token is due. A request that would exceed the global database concurrency
+ * cap gets 503 with Retry-After: 1. Both are answered before any controller or connection is involved.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private final RateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlFilter(RateLimiter rateLimiter, ConcurrencyLimiter concurrencyLimiter,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            long waitNanos = rateLimiter.tryAcquire(authentication, endpointClass);
+            if (waitNanos > 0) {
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                logger.debug("Rate limited {} on {} {}", authentication.getName(), request.getMethod(),
+                        request.getRequestURI());
+                rejected("rate_limited", endpointClass).increment();
+                writeError(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds,
+                        "Rate limit exceeded, retry after " + retryAfterSeconds + "s");
+                return;
+            }
+        }
+
+        if (!concurrencyLimiter.covers(request.getRequestURI())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            logger.warn("Shedding {} {}: {} database-bound requests in flight", request.getMethod(),
+                    request.getRequestURI(), concurrencyLimiter.inFlight());
+            rejected("overloaded", endpointClass).increment();
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is busy, please retry shortly");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release();
+        }
+    }
+
+    private Counter rejected(String reason, EndpointClass endpointClass) {
+        return Counter.builder("admission.rejected")
+                .tag("reason", reason)
+                .tag("endpoint", endpointClass.tag())
+                .description("Requests refused by rate limiting (429) or load shedding (503)")
+                .register(meterRegistry);
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+}
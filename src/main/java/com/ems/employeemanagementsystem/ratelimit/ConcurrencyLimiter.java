@@ -0,0 +1,67 @@
+package com.ems.employeemanagementsystem.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Global cap on requests that need a database connection. Past the cap, a request waits briefly for a slot and
+ * is then refused, so overload is shed at the door instead of piling up in the connection pool's queue, where
+ * every request would wait up to the pool's connection timeout. Paths served from memory, and exports, which
+ * have their own threads and connection pool, are exempt.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    private static final String DEFAULT_EXEMPT_PATHS =
+            "/api/analytics/**,/api/employees/autocomplete,/api/reports/**";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final int maxConcurrent;
+    private final long queueTimeoutMs;
+    private final List<String> exemptPaths;
+    private final Semaphore permits;
+
+    public ConcurrencyLimiter(MeterRegistry meterRegistry,
+                              @Value("${app.admission.max-concurrent:20}") int maxConcurrent,
+                              @Value("${app.admission.queue-timeout-ms:100}") long queueTimeoutMs,
+                              @Value("${app.admission.exempt-paths:" + DEFAULT_EXEMPT_PATHS + "}")
+                                      String[] exemptPaths) {
+        this.maxConcurrent = maxConcurrent;
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.exemptPaths = Arrays.asList(exemptPaths);
+        this.permits = new Semaphore(maxConcurrent);
+        Gauge.builder("admission.in.flight", this, ConcurrencyLimiter::inFlight)
+                .description("Database-bound requests currently admitted")
+                .register(meterRegistry);
+    }
+
+    public boolean covers(String path) {
+        return exemptPaths.stream().noneMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    // Every successful call must be paired with release().
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,23 @@
+package com.ems.employeemanagementsystem.ratelimit;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Endpoints that share a rate limit. Each caller gets one bucket per class, so a client paging through reads
+ * does not use up its writes.
+ */
+public enum EndpointClass {
+
+    READ,
+    WRITE;
+
+    // POST /api/employees/lookup only reads, but is limited as a write: one call may fetch hundreds of rows.
+    public static EndpointClass of(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method) ? READ : WRITE;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,84 @@
+package com.ems.employeemanagementsystem.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-caller rate limits: one token bucket per authenticated principal and endpoint class. Admins get the
+ * app.rate-limit.admin limits, every other caller the app.rate-limit.user ones.
+ */
+@Component
+public class RateLimiter {
+
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private final boolean enabled;
+    private final Map<EndpointClass, Limit> adminLimits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Limit> userLimits = new EnumMap<>(EndpointClass.class);
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                       @Value("${app.rate-limit.admin.read-per-second:100}") double adminReadPerSecond,
+                       @Value("${app.rate-limit.admin.read-burst:200}") int adminReadBurst,
+                       @Value("${app.rate-limit.admin.write-per-second:50}") double adminWritePerSecond,
+                       @Value("${app.rate-limit.admin.write-burst:100}") int adminWriteBurst,
+                       @Value("${app.rate-limit.user.read-per-second:20}") double userReadPerSecond,
+                       @Value("${app.rate-limit.user.read-burst:40}") int userReadBurst,
+                       @Value("${app.rate-limit.user.write-per-second:5}") double userWritePerSecond,
+                       @Value("${app.rate-limit.user.write-burst:10}") int userWriteBurst) {
+        this.enabled = enabled;
+        adminLimits.put(EndpointClass.READ, new Limit(adminReadPerSecond, adminReadBurst));
+        adminLimits.put(EndpointClass.WRITE, new Limit(adminWritePerSecond, adminWriteBurst));
+        userLimits.put(EndpointClass.READ, new Limit(userReadPerSecond, userReadBurst));
+        userLimits.put(EndpointClass.WRITE, new Limit(userWritePerSecond, userWriteBurst));
+    }
+
+    /**
+     * Takes a token from the caller's bucket for the endpoint class. Returns 0 when the request may proceed,
+     * otherwise the nanoseconds until the caller's next token.
+     */
+    public long tryAcquire(Authentication authentication, EndpointClass endpointClass) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        Limit limit = limitsFor(authentication).get(endpointClass);
+        TokenBucket bucket = buckets.computeIfAbsent(authentication.getName() + ":" + endpointClass,
+                key -> new TokenBucket(limit.perSecond, limit.burst, now));
+        return bucket.tryConsume(now);
+    }
+
+    // Idle callers' buckets have refilled; dropping them keeps the map to recently active callers.
+    @Scheduled(fixedDelayString = "${app.rate-limit.prune-interval-ms:60000}")
+    public void pruneIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private Map<EndpointClass, Limit> limitsFor(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (ADMIN_AUTHORITY.equals(authority.getAuthority())) {
+                return adminLimits;
+            }
+        }
+        return userLimits;
+    }
+
+    private static final class Limit {
+
+        private final double perSecond;
+        private final int burst;
+
+        private Limit(double perSecond, int burst) {
+            this.perSecond = perSecond;
+            this.burst = burst;
+        }
+    }
+}
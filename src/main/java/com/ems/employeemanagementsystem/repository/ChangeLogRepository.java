@@ -0,0 +1,28 @@
+package com.ems.employeemanagementsystem.repository;
+
+import com.ems.employeemanagementsystem.entity.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    List<ChangeLogEntry> findBySequenceGreaterThanOrderBySequenceAsc(Long sequence, Pageable pageable);
+
+    @Query("SELECT MIN(c.sequence) FROM ChangeLogEntry c")
+    Long findMinSequence();
+
+    @Query("SELECT MAX(c.sequence) FROM ChangeLogEntry c WHERE c.changedAt < :before")
+    Long findMaxSequenceChangedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.sequence < :sequence")
+    int deleteBySequenceLessThan(@Param("sequence") Long sequence);
+}
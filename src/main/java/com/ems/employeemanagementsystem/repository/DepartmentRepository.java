@@ -2,8 +2,12 @@ package com.ems.employeemanagementsystem.repository;
 
 import com.ems.employeemanagementsystem.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,16 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     Optional<Department> findByDepartmentName(String departmentName);
 
     boolean existsByDepartmentName(String departmentName);
+
+    @Query("SELECT d.id FROM Department d")
+    List<Long> findAllIds();
+
+    // Locking the row blocks new employees from joining the department until the transaction ends.
+    @Query(value = "SELECT department_id FROM departments WHERE department_id = :id FOR UPDATE", nativeQuery = true)
+    List<Long> lockId(@Param("id") Long id);
+
+    // Bypasses the cascade on Department.employees; the caller has moved or deleted them already.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Department d WHERE d.id = :id")
+    int deleteRowById(@Param("id") Long id);
 }
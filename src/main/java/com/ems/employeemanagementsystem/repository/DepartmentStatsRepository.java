@@ -0,0 +1,34 @@
+package com.ems.employeemanagementsystem.repository;
+
+import com.ems.employeemanagementsystem.entity.DepartmentStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.Optional;
+
+@Repository
+public interface DepartmentStatsRepository extends JpaRepository<DepartmentStats, Long> {
+
+    // Relative update: the row lock it takes serializes writers of the same department until they commit.
+    @Modifying
+    @Query("UPDATE DepartmentStats s SET s.headcount = s.headcount + :headcount, "
+            + "s.salaryTotal = s.salaryTotal + :salary WHERE s.departmentId = :departmentId")
+    int addToDepartment(@Param("departmentId") Long departmentId,
+                        @Param("headcount") long headcount,
+                        @Param("salary") BigDecimal salary);
+
+    // Locks one department's row, so its reconciliation waits for in-flight writers and blocks new ones.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM DepartmentStats s WHERE s.departmentId = :departmentId")
+    Optional<DepartmentStats> findByIdForUpdate(@Param("departmentId") Long departmentId);
+
+    @Modifying
+    @Query("DELETE FROM DepartmentStats s WHERE s.departmentId = :departmentId")
+    int deleteByDepartmentId(@Param("departmentId") Long departmentId);
+}
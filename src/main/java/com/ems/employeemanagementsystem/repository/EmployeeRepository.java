@@ -1,11 +1,19 @@
 package com.ems.employeemanagementsystem.repository;
 
+import com.ems.employeemanagementsystem.entity.Department;
 import com.ems.employeemanagementsystem.entity.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +26,59 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Page<Employee> findByDepartmentId(Long departmentId, Pageable pageable);
 
     Page<Employee> findAll(Pageable pageable);
+
+    // Slice queries fetch size + 1 rows to detect a next page and never issue a COUNT(*).
+    Slice<Employee> findSliceBy(Pageable pageable);
+
+    Slice<Employee> findSliceByDepartmentId(Long departmentId, Pageable pageable);
+
+    long countByDepartmentId(Long departmentId);
+
+    // Keyset batches of the columns the search index needs, without loading entities or departments.
+    @Query("SELECT e.id, e.fullName, e.email FROM Employee e WHERE e.id > :afterId ORDER BY e.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Keyset batches for the payroll analytics columns; e.department.id reads the foreign key without a join.
+    @Query("SELECT e.id, e.department.id, e.salary, e.joiningDate FROM Employee e WHERE e.id > :afterId ORDER BY e.id")
+    List<Object[]> findAnalyticsFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Actual headcount and salary total of one department, a range scan of idx_employees_department_name that
+    // reconciliation compares against department_stats. Always one row.
+    @Query("SELECT COUNT(e), COALESCE(SUM(e.salary), 0) FROM Employee e WHERE e.department.id = :departmentId")
+    List<Object[]> countAndSumSalaryInDepartment(@Param("departmentId") Long departmentId);
+
+    // Fallback used only while the search index is still loading.
+    @Query("SELECT e FROM Employee e WHERE LOWER(e.fullName) LIKE :pattern OR LOWER(e.email) LIKE :pattern "
+            + "ORDER BY e.fullName")
+    List<Employee> findByNameOrEmailLike(@Param("pattern") String pattern, Pageable pageable);
+
+    // One query for an employee and its department, for writes that need both.
+    @Query("SELECT e FROM Employee e JOIN FETCH e.department WHERE e.id = :id")
+    Optional<Employee> findWithDepartmentById(@Param("id") Long id);
+
+    // Single IN query; the fetch join avoids one extra select per distinct department.
+    @Query("SELECT e FROM Employee e JOIN FETCH e.department WHERE e.id IN :ids")
+    List<Employee> findAllWithDepartmentByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Lock the rows to delete in id order, so overlapping deletes neither deadlock nor both report a row as deleted.
+    @Query(value = "SELECT employee_id FROM employees WHERE employee_id IN (:ids) ORDER BY employee_id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT employee_id FROM employees WHERE department_id = :departmentId ORDER BY employee_id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockIdsByDepartmentId(@Param("departmentId") Long departmentId);
+
+    // Set-based delete; the caller removes the employees' leave requests first.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Employee e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Set-based move. updatedAt and version are set here because a bulk update bypasses @UpdateTimestamp and @Version.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.department = :department, e.updatedAt = :updatedAt, e.version = e.version + 1 "
+            + "WHERE e.id IN :ids")
+    int reassignDepartment(@Param("ids") Collection<Long> ids,
+                           @Param("department") Department department,
+                           @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,9 +1,18 @@
 package com.ems.employeemanagementsystem.repository;
 
 import com.ems.employeemanagementsystem.entity.LeaveRequest;
+import com.ems.employeemanagementsystem.entity.enums.LeaveStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +21,53 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long
     List<LeaveRequest> findByEmployeeId(Long employeeId);
 
     List<LeaveRequest> findByEmployeeIdOrderByCreatedAtDesc(Long employeeId);
+
+    // Locks only the pending leave rows (a JPQL lock would also lock the joined employee and department rows),
+    // in id order so overlapping bulk decisions cannot deadlock.
+    @Query(value = "SELECT leave_id FROM leave_requests WHERE leave_id IN (:ids) AND status = 'PENDING' "
+            + "ORDER BY leave_id FOR UPDATE", nativeQuery = true)
+    List<Long> lockPendingIds(@Param("ids") Collection<Long> ids);
+
+    // Compare-and-set: only rows still in the expected status change, and their version is bumped so any
+    // entity loaded before the update fails its optimistic check instead of overwriting the new status.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LeaveRequest l SET l.status = :status, l.version = l.version + 1 WHERE l.id IN :ids AND l.status = :expected")
+    int updateStatusWhereStatus(@Param("ids") Collection<Long> ids,
+                                @Param("expected") LeaveStatus expected,
+                                @Param("status") LeaveStatus status);
+
+    // One statement per batch of employees instead of loading and deleting every leave request through the cascade.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM LeaveRequest l WHERE l.employee.id IN :employeeIds")
+    int deleteByEmployeeIdIn(@Param("employeeIds") Collection<Long> employeeIds);
+
+    // Keyset pages over idx_leave_requests_status_created (status, created_at[, leave_id]). The redundant
+    // created_at >= bound keeps the cursor predicate a range scan on the index instead of an OR.
+    @Query("SELECT l FROM LeaveRequest l JOIN FETCH l.employee e JOIN FETCH e.department "
+            + "WHERE l.status = :status "
+            + "AND l.createdAt >= :afterCreatedAt AND (l.createdAt > :afterCreatedAt OR l.id > :afterId) "
+            + "AND l.endDate >= :from AND l.startDate <= :to "
+            + "ORDER BY l.createdAt ASC, l.id ASC")
+    Slice<LeaveRequest> findByStatusAfter(@Param("status") LeaveStatus status,
+                                          @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                          @Param("afterId") Long afterId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          Pageable pageable);
+
+    @Query("SELECT l FROM LeaveRequest l JOIN FETCH l.employee e JOIN FETCH e.department d "
+            + "WHERE l.status = :status AND d.id = :departmentId "
+            + "AND l.createdAt >= :afterCreatedAt AND (l.createdAt > :afterCreatedAt OR l.id > :afterId) "
+            + "AND l.endDate >= :from AND l.startDate <= :to "
+            + "ORDER BY l.createdAt ASC, l.id ASC")
+    Slice<LeaveRequest> findByStatusAndDepartmentAfter(@Param("status") LeaveStatus status,
+                                                       @Param("departmentId") Long departmentId,
+                                                       @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                       @Param("afterId") Long afterId,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to,
+                                                       Pageable pageable);
+
+    @Query("SELECT l FROM LeaveRequest l JOIN FETCH l.employee e JOIN FETCH e.department WHERE l.id IN :ids")
+    List<LeaveRequest> findAllWithEmployeeByIdIn(@Param("ids") Collection<Long> ids);
 }
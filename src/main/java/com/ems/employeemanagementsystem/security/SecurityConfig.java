@@ -64,14 +64,26 @@ public class SecurityConfig {
                 .and()
                 .authorizeRequests()
                     .antMatchers("/actuator/health").permitAll()
+                    .antMatchers("/actuator/metrics/**").hasRole("ADMIN")
                     .antMatchers(HttpMethod.GET, "/api/employees/**").hasAnyRole("ADMIN", "USER")
+                    .antMatchers(HttpMethod.POST, "/api/employees/lookup").hasAnyRole("ADMIN", "USER")
                     .antMatchers(HttpMethod.POST, "/api/employees").hasRole("ADMIN")
+                    .antMatchers(HttpMethod.POST, "/api/employees/delete").hasRole("ADMIN")
+                    .antMatchers(HttpMethod.POST, "/api/employees/reassign").hasRole("ADMIN")
                     .antMatchers(HttpMethod.PUT, "/api/employees/**").hasRole("ADMIN")
+                    .antMatchers(HttpMethod.PATCH, "/api/employees/**").hasRole("ADMIN")
                     .antMatchers(HttpMethod.DELETE, "/api/employees/**").hasRole("ADMIN")
                     .antMatchers(HttpMethod.GET, "/api/departments/**").hasAnyRole("ADMIN", "USER")
                     .antMatchers(HttpMethod.POST, "/api/departments").hasRole("ADMIN")
+                    .antMatchers(HttpMethod.DELETE, "/api/departments/*/employees").hasRole("ADMIN")
+                    .antMatchers(HttpMethod.POST, "/api/departments/*/merge").hasRole("ADMIN")
                     .antMatchers(HttpMethod.POST, "/api/leaves").hasAnyRole("ADMIN", "USER")
+                    .antMatchers(HttpMethod.PUT, "/api/leaves/status").hasRole("ADMIN")
                     .antMatchers(HttpMethod.PUT, "/api/leaves/*/status").hasRole("ADMIN")
+                    .antMatchers(HttpMethod.GET, "/api/leaves/pending").hasRole("ADMIN")
+                    .antMatchers(HttpMethod.GET, "/api/analytics/**").hasRole("ADMIN")
+                    .antMatchers(HttpMethod.GET, "/api/reports/**").hasRole("ADMIN")
+                    .antMatchers(HttpMethod.GET, "/api/changes/**").hasAnyRole("ADMIN", "USER")
                     .antMatchers(HttpMethod.GET, "/api/leaves/**").hasAnyRole("ADMIN", "USER")
                     .anyRequest().authenticated()
                 .and()
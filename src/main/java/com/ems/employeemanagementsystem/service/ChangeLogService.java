@@ -0,0 +1,238 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.dto.ChangeEventDTO;
+import com.ems.employeemanagementsystem.dto.ChangeFeedDTO;
+import com.ems.employeemanagementsystem.dto.DepartmentDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.entity.ChangeLogEntry;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.DepartmentChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.event.LeaveBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.LeaveChangedEvent;
+import com.ems.employeemanagementsystem.exception.BadRequestException;
+import com.ems.employeemanagementsystem.exception.GoneException;
+import com.ems.employeemanagementsystem.repository.ChangeLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every employee, department and leave mutation in change_log and serves them back in sequence order.
+ *
+ * Entries are written by plain event listeners, so they join the writing transaction and commit or roll back
+ * with it. Sequence numbers are assigned at insert rather than at commit, so a recent gap may still be filled
+ * by a transaction that has not committed yet; a batch stops before such a gap until it is older than the
+ * grace period, after which it is treated as a rolled back write.
+ *
+ * A bulk delete, move or leave decision arrives as one batch event and is written with JDBC batches of INSERT_BATCH_SIZE rows,
+ * which rewriteBatchedStatements turns into multi-row INSERTs on MySQL; saving one entity per row cannot be
+ * batched because change_log ids are IDENTITY.
+ */
+@Service
+@Transactional
+public class ChangeLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogService.class);
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO change_log "
+            + "(entity, entity_id, change_type, department_id, payload, changed_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final ChangeLogRepository changeLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.changes.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${app.changes.gap-grace-seconds:30}")
+    private long gapGraceSeconds;
+
+    @Value("${app.changes.retention-days:7}")
+    private long retentionDays;
+
+    public ChangeLogService(ChangeLogRepository changeLogRepository, JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper) {
+        this.changeLogRepository = changeLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeDTO state = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        record("employee", event.getEmployeeId(), event.getType(),
+                state != null ? state.getDepartmentId() : null, event.getAfter());
+    }
+
+    @EventListener
+    public void onEmployeesChanged(EmployeeBatchChangedEvent batch) {
+        List<ChangeLogEntry> entries = new ArrayList<>(batch.getChanges().size());
+        LocalDateTime changedAt = LocalDateTime.now();
+        for (EmployeeChangedEvent event : batch.getChanges()) {
+            EmployeeDTO state = event.getAfter() != null ? event.getAfter() : event.getBefore();
+            entries.add(ChangeLogEntry.builder()
+                    .entity("employee")
+                    .entityId(event.getEmployeeId())
+                    .changeType(event.getType())
+                    .departmentId(state != null ? state.getDepartmentId() : null)
+                    .payload(event.getAfter() != null ? serialize(event.getAfter()) : null)
+                    .changedAt(changedAt)
+                    .build());
+        }
+        insertAll(entries);
+    }
+
+    @EventListener
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        DepartmentDTO after = event.getAfter();
+        record("department", event.getDepartmentId(), event.getType(), event.getDepartmentId(), after);
+    }
+
+    @EventListener
+    public void onLeaveChanged(LeaveChangedEvent event) {
+        record("leave", event.getLeave().getId(), event.getType(), event.getDepartmentId(), event.getLeave());
+    }
+
+    @EventListener
+    public void onLeavesChanged(LeaveBatchChangedEvent batch) {
+        List<ChangeLogEntry> entries = new ArrayList<>(batch.getChanges().size());
+        LocalDateTime changedAt = LocalDateTime.now();
+        for (LeaveChangedEvent event : batch.getChanges()) {
+            entries.add(ChangeLogEntry.builder()
+                    .entity("leave")
+                    .entityId(event.getLeave().getId())
+                    .changeType(event.getType())
+                    .departmentId(event.getDepartmentId())
+                    .payload(serialize(event.getLeave()))
+                    .changedAt(changedAt)
+                    .build());
+        }
+        insertAll(entries);
+    }
+
+    /**
+     * Returns up to {@code limit} changes recorded after the {@code since} token, oldest first. Without a token
+     * the feed starts at the oldest retained change.
+     */
+    public ChangeFeedDTO getChanges(String since, int limit) {
+        long after = parseToken(since);
+        int batchSize = Math.max(1, Math.min(limit, maxBatchSize));
+        logger.info("Fetching changes after {} - limit: {}", after, batchSize);
+
+        if (after > 0) {
+            Long oldest = changeLogRepository.findMinSequence();
+            if (oldest != null && after < oldest - 1) {
+                throw new GoneException("Changes after " + after + " are no longer retained, resync and start over");
+            }
+        }
+
+        List<ChangeLogEntry> entries = changeLogRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                after, PageRequest.of(0, batchSize + 1));
+        LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(gapGraceSeconds);
+
+        List<ChangeEventDTO> changes = new ArrayList<>(Math.min(entries.size(), batchSize));
+        long last = after;
+        boolean hasMore = entries.size() > batchSize;
+        for (ChangeLogEntry entry : entries.subList(0, Math.min(entries.size(), batchSize))) {
+            boolean gap = last > 0 && entry.getSequence() != last + 1;
+            if (gap && entry.getChangedAt().isAfter(settledBefore)) {
+                hasMore = true;
+                break;
+            }
+            changes.add(mapToDTO(entry));
+            last = entry.getSequence();
+        }
+
+        return ChangeFeedDTO.builder()
+                .changes(changes)
+                .nextToken(Long.toString(last))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Keeps the newest entry past the retention period, so the oldest remaining sequence marks where history starts.
+    @Scheduled(fixedDelayString = "${app.changes.prune-interval-ms:3600000}")
+    public void pruneExpired() {
+        Long cutoff = changeLogRepository.findMaxSequenceChangedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (cutoff != null) {
+            int deleted = changeLogRepository.deleteBySequenceLessThan(cutoff);
+            if (deleted > 0) {
+                logger.info("Pruned {} change log entries older than {} days", deleted, retentionDays);
+            }
+        }
+    }
+
+    private void record(String entity, Long entityId, ChangeType type, Long departmentId, Object state) {
+        changeLogRepository.save(ChangeLogEntry.builder()
+                .entity(entity)
+                .entityId(entityId)
+                .changeType(type)
+                .departmentId(departmentId)
+                .payload(state != null ? serialize(state) : null)
+                .changedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void insertAll(List<ChangeLogEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, INSERT_BATCH_SIZE, (ps, entry) -> {
+            ps.setString(1, entry.getEntity());
+            ps.setLong(2, entry.getEntityId());
+            ps.setString(3, entry.getChangeType().name());
+            ps.setObject(4, entry.getDepartmentId(), Types.BIGINT);
+            ps.setString(5, entry.getPayload());
+            ps.setTimestamp(6, Timestamp.valueOf(entry.getChangedAt()));
+        });
+    }
+
+    private String serialize(Object state) {
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize change log payload", e);
+        }
+    }
+
+    private static long parseToken(String since) {
+        if (since == null || since.isEmpty()) {
+            return 0;
+        }
+        try {
+            long after = Long.parseLong(since);
+            if (after < 0) {
+                throw new NumberFormatException(since);
+            }
+            return after;
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid change token: " + since);
+        }
+    }
+
+    private ChangeEventDTO mapToDTO(ChangeLogEntry entry) {
+        return ChangeEventDTO.builder()
+                .sequence(entry.getSequence())
+                .entity(entry.getEntity())
+                .type(entry.getChangeType())
+                .id(entry.getEntityId())
+                .departmentId(entry.getDepartmentId())
+                // Stored payloads are already JSON, so they are written through without being parsed again.
+                .data(entry.getPayload() != null ? new RawValue(entry.getPayload()) : null)
+                .build();
+    }
+}
@@ -1,15 +1,19 @@
 package com.ems.employeemanagementsystem.service;
 
+import com.ems.employeemanagementsystem.cache.ReadCoalescer;
 import com.ems.employeemanagementsystem.dto.DepartmentDTO;
 import com.ems.employeemanagementsystem.dto.EmployeeDTO;
 import com.ems.employeemanagementsystem.entity.Department;
-import com.ems.employeemanagementsystem.entity.Employee;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.DepartmentChangedEvent;
 import com.ems.employeemanagementsystem.exception.DuplicateResourceException;
 import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.ems.employeemanagementsystem.repository.DepartmentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -22,9 +26,16 @@ public class DepartmentService {
     private static final Logger logger = LoggerFactory.getLogger(DepartmentService.class);
 
     private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DepartmentStatsService statsService;
+    private final ReadCoalescer readCoalescer;
 
-    public DepartmentService(DepartmentRepository departmentRepository) {
+    public DepartmentService(DepartmentRepository departmentRepository, ApplicationEventPublisher eventPublisher,
+                             DepartmentStatsService statsService, ReadCoalescer readCoalescer) {
         this.departmentRepository = departmentRepository;
+        this.eventPublisher = eventPublisher;
+        this.statsService = statsService;
+        this.readCoalescer = readCoalescer;
     }
 
     public List<DepartmentDTO> getAllDepartments() {
@@ -56,19 +67,26 @@ public class DepartmentService {
                 .build();
 
         Department savedDepartment = departmentRepository.save(department);
+        statsService.createFor(savedDepartment.getId());
         logger.info("Department created successfully with ID: {}", savedDepartment.getId());
-        return mapToDTO(savedDepartment);
+
+        DepartmentDTO created = mapToDTO(savedDepartment);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(ChangeType.CREATED, created.getId(), created));
+        return created;
     }
 
+    // Coalesced like EmployeeService.getEmployeeById; the shared load runs in its own read-only transaction.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<EmployeeDTO> getDepartmentEmployees(Long departmentId) {
         logger.info("Fetching employees for department ID: {}", departmentId);
-        Department department = departmentRepository.findById(departmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Department", "id", departmentId));
-
-        return department.getEmployees()
-                .stream()
-                .map(this::mapEmployeeToDTO)
-                .collect(Collectors.toList());
+        return readCoalescer.departmentEmployees(departmentId, () -> {
+            Department department = departmentRepository.findById(departmentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Department", "id", departmentId));
+            return department.getEmployees()
+                    .stream()
+                    .map(EmployeeMapping::toDTO)
+                    .collect(Collectors.toUnmodifiableList());
+        });
     }
 
     public Department getDepartmentEntity(Long id) {
@@ -76,26 +94,32 @@ public class DepartmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Department", "id", id));
     }
 
+    // Locks the department row for the rest of the transaction, or throws 404.
+    public void lockDepartment(Long id) {
+        if (departmentRepository.lockId(id).isEmpty()) {
+            throw new ResourceNotFoundException("Department", "id", id);
+        }
+    }
+
+    /**
+     * Deletes a department that no longer has employees, e.g. the source of a merge once they have moved.
+     */
+    public void deleteEmptyDepartment(Long id) {
+        logger.info("Deleting department with ID: {}", id);
+        statsService.removeFor(id);
+        departmentRepository.deleteRowById(id);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(ChangeType.DELETED, id, null));
+        logger.info("Department deleted successfully with ID: {}", id);
+    }
+
     private DepartmentDTO mapToDTO(Department department) {
         return DepartmentDTO.builder()
                 .id(department.getId())
                 .departmentName(department.getDepartmentName())
                 .location(department.getLocation())
                 .createdAt(department.getCreatedAt())
-                .build();
-    }
-
-    private EmployeeDTO mapEmployeeToDTO(Employee employee) {
-        return EmployeeDTO.builder()
-                .id(employee.getId())
-                .fullName(employee.getFullName())
-                .email(employee.getEmail())
-                .departmentId(employee.getDepartment().getId())
-                .departmentName(employee.getDepartment().getDepartmentName())
-                .salary(employee.getSalary())
-                .joiningDate(employee.getJoiningDate())
-                .createdAt(employee.getCreatedAt())
-                .updatedAt(employee.getUpdatedAt())
+                .headcount(statsService.headcount(department.getId()))
+                .salaryTotal(statsService.salaryTotal(department.getId()))
                 .build();
     }
 }
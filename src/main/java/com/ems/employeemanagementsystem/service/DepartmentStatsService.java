@@ -0,0 +1,251 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.cache.EtagRegistry;
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.entity.DepartmentStats;
+import com.ems.employeemanagementsystem.event.AfterCommit;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.repository.DepartmentRepository;
+import com.ems.employeemanagementsystem.repository.DepartmentStatsRepository;
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headcount and salary total per department, so department lists can show them without counting employees.
+ *
+ * Every employee write applies its delta to department_stats inside its own transaction, and once it commits to
+ * striped in-memory counters that readers use. A periodic reconciliation recounts each department from the
+ * employees table under that department's department_stats row lock, corrects drift there, and resets its
+ * counters. It also runs at startup, after any bulk seeding that bypassed the services.
+ */
+@Service
+public class DepartmentStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentStatsService.class);
+    // Transaction resource key for the deltas collected by the current write.
+    private static final Object PENDING_DELTAS = new Object();
+
+    private final DepartmentStatsRepository statsRepository;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EtagRegistry etagRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+
+    public DepartmentStatsService(DepartmentStatsRepository statsRepository,
+                                  EmployeeRepository employeeRepository,
+                                  DepartmentRepository departmentRepository,
+                                  EtagRegistry etagRegistry,
+                                  TransactionTemplate transactionTemplate) {
+        this.statsRepository = statsRepository;
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.etagRegistry = etagRegistry;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public long headcount(Long departmentId) {
+        Counters c = counters.get(departmentId);
+        return c != null ? c.headcount.sum() : 0;
+    }
+
+    public BigDecimal salaryTotal(Long departmentId) {
+        Counters c = counters.get(departmentId);
+        return BigDecimal.valueOf(c != null ? c.salaryCents.sum() : 0, 2);
+    }
+
+    // Called by DepartmentService in the transaction that creates the department.
+    @Transactional
+    public void createFor(Long departmentId) {
+        statsRepository.save(new DepartmentStats(departmentId, 0, BigDecimal.ZERO));
+    }
+
+    // Called by DepartmentService in the transaction that deletes the department, after its employees have left.
+    @Transactional
+    public void removeFor(Long departmentId) {
+        pendingDeltas().remove(departmentId);
+        statsRepository.deleteByDepartmentId(departmentId);
+        AfterCommit.run(() -> {
+            counters.remove(departmentId);
+            etagRegistry.departmentStatsChanged();
+        });
+    }
+
+    /**
+     * Runs inside the employee write's transaction, so the totals commit or roll back with it. Deltas are summed
+     * per transaction and written just before commit, so a bulk write costs one update per department, not one per
+     * employee.
+     */
+    @EventListener
+    @Transactional
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        Map<Long, long[]> deltas = pendingDeltas();
+        addDelta(deltas, event.getBefore(), -1);
+        addDelta(deltas, event.getAfter(), 1);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyNonZero(deltas);
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onEmployeesChanged(EmployeeBatchChangedEvent batch) {
+        batch.getChanges().forEach(this::onEmployeeChanged);
+    }
+
+    /**
+     * Applies per-department changes of {departmentId -> [headcount, salary cents]}. Bulk writes that do not publish
+     * one event per employee call this directly from their transaction.
+     */
+    @Transactional
+    public void applyDeltas(Map<Long, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<Long, long[]> delta : new TreeMap<>(deltas).entrySet()) {
+            int updated = statsRepository.addToDepartment(delta.getKey(), delta.getValue()[0],
+                    BigDecimal.valueOf(delta.getValue()[1], 2));
+            if (updated == 0) {
+                logger.warn("No department_stats row for department {}; left to reconciliation", delta.getKey());
+            }
+        }
+        // Taken while the row locks are held: a reconciliation that locks a row later counts this write and
+        // replaces that department's counters, so the delta then lands on the discarded ones.
+        Map<Long, Counters> targets = new HashMap<>();
+        deltas.keySet().forEach(departmentId ->
+                targets.put(departmentId, counters.computeIfAbsent(departmentId, id -> new Counters())));
+        AfterCommit.run(() -> {
+            deltas.forEach((departmentId, delta) -> {
+                Counters c = targets.get(departmentId);
+                c.headcount.add(delta[0]);
+                c.salaryCents.add(delta[1]);
+            });
+            etagRegistry.departmentStatsChanged();
+        });
+    }
+
+    /**
+     * Recounts one department at a time, each in its own short transaction that locks only that department's
+     * stats row, so writers to every other department carry on while it runs.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.department-stats.reconcile-interval-ms:600000}",
+            initialDelayString = "${app.department-stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        List<Long> departmentIds = departmentRepository.findAllIds();
+        int drifted = 0;
+        for (Long departmentId : departmentIds) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcileDepartment(departmentId)))) {
+                drifted++;
+            }
+        }
+        etagRegistry.departmentStatsChanged();
+
+        if (drifted > 0) {
+            logger.warn("Department stats reconciled: corrected {} of {} departments in {} ms",
+                    drifted, departmentIds.size(), System.currentTimeMillis() - start);
+        } else {
+            logger.info("Department stats reconciled: {} departments consistent in {} ms",
+                    departmentIds.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    // Returns whether the stored row had drifted.
+    private boolean reconcileDepartment(Long departmentId) {
+        DepartmentStats stats = statsRepository.findByIdForUpdate(departmentId).orElse(null);
+        if (stats == null && !departmentRepository.existsById(departmentId)) {
+            // Deleted since the id list was read.
+            return false;
+        }
+        Object[] row = employeeRepository.countAndSumSalaryInDepartment(departmentId).get(0);
+        long headcount = (Long) row[0];
+        long salaryCents = cents((BigDecimal) row[1]);
+        BigDecimal salaryTotal = BigDecimal.valueOf(salaryCents, 2);
+
+        boolean drifted = false;
+        if (stats == null) {
+            statsRepository.save(new DepartmentStats(departmentId, headcount, salaryTotal));
+            drifted = true;
+        } else if (stats.getHeadcount() != headcount || stats.getSalaryTotal().compareTo(salaryTotal) != 0) {
+            stats.setHeadcount(headcount);
+            stats.setSalaryTotal(salaryTotal);
+            drifted = true;
+        }
+        // Writers of this department are blocked on the row lock until this commits, so their deltas land on the
+        // new counters; a write that committed before the lock is in the recount and lands on the replaced ones.
+        Counters c = new Counters();
+        c.headcount.add(headcount);
+        c.salaryCents.add(salaryCents);
+        counters.put(departmentId, c);
+        return drifted;
+    }
+
+    private Map<Long, long[]> pendingDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new TreeMap<>();
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, long[]> pending = (Map<Long, long[]>) TransactionSynchronizationManager.getResource(PENDING_DELTAS);
+        if (pending == null) {
+            // Sorted by department id so a write locks its rows in the same order as every other writer.
+            Map<Long, long[]> created = new TreeMap<>();
+            TransactionSynchronizationManager.bindResource(PENDING_DELTAS, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    applyNonZero(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void applyNonZero(Map<Long, long[]> deltas) {
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0);
+        applyDeltas(deltas);
+    }
+
+    private static void addDelta(Map<Long, long[]> deltas, EmployeeDTO employee, int sign) {
+        if (employee == null) {
+            return;
+        }
+        long[] delta = deltas.computeIfAbsent(employee.getDepartmentId(), id -> new long[2]);
+        delta[0] += sign;
+        delta[1] += sign * cents(employee.getSalary());
+    }
+
+    private static long cents(BigDecimal salary) {
+        return salary != null ? salary.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0;
+    }
+
+    private static final class Counters {
+        private final LongAdder headcount = new LongAdder();
+        private final LongAdder salaryCents = new LongAdder();
+    }
+}
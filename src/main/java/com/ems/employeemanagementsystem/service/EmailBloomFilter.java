@@ -0,0 +1,178 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter over employee emails, so that the uniqueness check on create and update can skip
+ * {@code existsByEmail} for an email that is certainly not taken. A hit only means "maybe": the caller still asks
+ * the database, and the unique constraint on {@code employees.email} remains the final authority.
+ *
+ * Emails are added when a write is about to save them, before it commits, so a concurrent check never misses an
+ * email that is on its way into the table. A rolled back write or a deleted employee leaves its bits behind, which
+ * only costs an occasional extra query. Until the startup load finishes every email is reported as "maybe".
+ * The filter is per instance: emails written by another instance are caught by the unique constraint instead.
+ */
+@Component
+public class EmailBloomFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final int loadBatchSize;
+    private final long expectedInsertions;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLongArray words;
+    private final LongAdder bitsSet = new LongAdder();
+    private final LongAdder insertions = new LongAdder();
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositives;
+    private volatile boolean ready;
+
+    public EmailBloomFilter(EmployeeRepository employeeRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.email-filter.expected-insertions:2000000}") long expectedInsertions,
+                            @Value("${app.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${app.email-filter.load-batch-size:10000}") int loadBatchSize) {
+        this.employeeRepository = employeeRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.expectedInsertions = expectedInsertions;
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.words = new AtomicLongArray((int) ((Math.max(bits, 64) + 63) / 64));
+        this.bitSize = words.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+
+        this.absent = checks(meterRegistry, "absent");
+        this.present = checks(meterRegistry, "present");
+        this.falsePositives = checks(meterRegistry, "false_positive");
+        Gauge.builder("employee.email.filter.memory", this, filter -> filter.bitSize / 8.0)
+                .baseUnit("bytes")
+                .description("Heap used by the email bloom filter bit array")
+                .register(meterRegistry);
+        Gauge.builder("employee.email.filter.insertions", insertions, LongAdder::sum)
+                .description("Emails added to the filter since startup, including rolled back writes")
+                .register(meterRegistry);
+        Gauge.builder("employee.email.filter.false.positive.rate", this, EmailBloomFilter::expectedFalsePositiveRate)
+                .description("False positive rate expected from the current fill of the bit array")
+                .register(meterRegistry);
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.email.filter.checks")
+                .tag("result", result)
+                .description("Email uniqueness checks by filter outcome; present and false_positive needed a query")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        long loaded = 0;
+        long afterId = 0;
+        List<Object[]> rows;
+        do {
+            rows = employeeRepository.findSearchFieldsAfter(afterId, PageRequest.of(0, loadBatchSize));
+            for (Object[] row : rows) {
+                put((String) row[2]);
+                afterId = (Long) row[0];
+            }
+            loaded += rows.size();
+        } while (rows.size() == loadBatchSize);
+        ready = true;
+
+        if (loaded > expectedInsertions) {
+            logger.warn("Email filter sized for {} emails holds {}; raise app.email-filter.expected-insertions",
+                    expectedInsertions, loaded);
+        }
+        logger.info("Email filter loaded: {} emails in {} ms, expected false positive rate {}",
+                loaded, System.currentTimeMillis() - start, String.format("%.4f", expectedFalsePositiveRate()));
+    }
+
+    /**
+     * False means no employee has this email. True means the database has to be asked.
+     */
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                absent.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitSize);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+            } while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask));
+            if ((word & mask) == 0) {
+                bitsSet.increment();
+            }
+        }
+        insertions.increment();
+    }
+
+    // Called with the database answer after mightContain returned true, to track the observed false positive rate.
+    public void recordDatabaseCheck(boolean exists) {
+        (exists ? present : falsePositives).increment();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    double expectedFalsePositiveRate() {
+        return Math.pow((double) bitsSet.sum() / bitSize, hashCount);
+    }
+
+    // Case and surrounding whitespace are ignored, matching the case-insensitive collation of the email column.
+    private static long hash(String email) {
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            h ^= normalized.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
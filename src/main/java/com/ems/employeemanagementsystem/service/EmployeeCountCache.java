@@ -0,0 +1,53 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Employee counts (overall and per department) cached for a short TTL. Callers of the slice endpoint can get
+ * an approximate total without a COUNT(*) on every request. Counts may be stale by up to the TTL.
+ */
+@Component
+public class EmployeeCountCache {
+
+    // ConcurrentHashMap does not accept null keys, so the unfiltered count is stored under this one.
+    private static final long ALL_DEPARTMENTS = -1L;
+
+    private final EmployeeRepository employeeRepository;
+    private final long ttlMillis;
+    private final Map<Long, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public EmployeeCountCache(EmployeeRepository employeeRepository,
+                              @Value("${app.pagination.count-cache-ttl-seconds:60}") long ttlSeconds) {
+        this.employeeRepository = employeeRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public long approximateCount(Long departmentId) {
+        long key = departmentId != null ? departmentId : ALL_DEPARTMENTS;
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.loadedAt < ttlMillis) {
+            return cached.count;
+        }
+        long count = departmentId != null
+                ? employeeRepository.countByDepartmentId(departmentId)
+                : employeeRepository.count();
+        counts.put(key, new CachedCount(count, now));
+        return count;
+    }
+
+    private static final class CachedCount {
+        private final long count;
+        private final long loadedAt;
+
+        private CachedCount(long count, long loadedAt) {
+            this.count = count;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.ems.employeemanagementsystem.exception.ServiceUnavailableException;
+import com.ems.employeemanagementsystem.repository.DepartmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams employee exports as CSV. Exports are isolated from interactive traffic: they run on their own small
+ * thread pool, read through the reporting connection pool, and free the request thread as soon as they are
+ * queued. When all export threads are busy and the queue is full, further exports get 503 instead of waiting.
+ *
+ * Rows are read with a fetch size and written in chunks as they arrive, so memory use does not grow with the
+ * number of employees. A slow client slows only its own export.
+ */
+@Service
+public class EmployeeExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeExportService.class);
+
+    public static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    static final String HEADER = "employee_id,full_name,email,department_id,department_name,salary,joining_date\n";
+    private static final int CHUNK_CHARS = 64 * 1024;
+    private static final String EMPLOYEES_SQL =
+            "SELECT e.employee_id, e.full_name, e.email, e.department_id, d.department_name, e.salary, "
+                    + "e.joining_date FROM employees e JOIN departments d ON d.department_id = e.department_id";
+
+    private final DepartmentRepository departmentRepository;
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final long timeoutMs;
+    private final ExecutorService executor;
+    private final ThreadPoolExecutor pool;
+
+    public EmployeeExportService(DepartmentRepository departmentRepository,
+                                 @Qualifier("reportingDataSource") DataSource reportingDataSource,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.reporting.threads:2}") int threads,
+                                 @Value("${app.reporting.queue-capacity:4}") int queueCapacity,
+                                 @Value("${app.reporting.fetch-size:1000}") int fetchSize,
+                                 @Value("${app.reporting.export-timeout-ms:1800000}") long timeoutMs) {
+        this.departmentRepository = departmentRepository;
+        this.meterRegistry = meterRegistry;
+        this.jdbcTemplate = new JdbcTemplate(reportingDataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "reporting-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "reporting");
+    }
+
+    /**
+     * Queues an export of all employees, or of one department's, ordered by id. The returned emitter receives
+     * the CSV as it is read.
+     */
+    public ResponseBodyEmitter exportEmployees(Long departmentId) {
+        if (departmentId != null && !departmentRepository.existsById(departmentId)) {
+            throw new ResourceNotFoundException("Department", "id", departmentId);
+        }
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMs);
+        try {
+            executor.execute(() -> writeEmployees(departmentId, emitter));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Export rejected: {} running, {} queued", pool.getActiveCount(), pool.getQueue().size());
+            throw new ServiceUnavailableException("Too many exports are running, please retry shortly");
+        }
+        return emitter;
+    }
+
+    void writeEmployees(Long departmentId, ResponseBodyEmitter emitter) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        StringBuilder chunk = new StringBuilder(CHUNK_CHARS + 1024).append(HEADER);
+        AtomicInteger rows = new AtomicInteger();
+        try {
+            String sql = EMPLOYEES_SQL + (departmentId != null ? " WHERE e.department_id = ?" : "")
+                    + " ORDER BY e.employee_id";
+            jdbcTemplate.query(sql, ps -> {
+                if (departmentId != null) {
+                    ps.setLong(1, departmentId);
+                }
+            }, rs -> {
+                appendRow(chunk, rs);
+                rows.incrementAndGet();
+                if (chunk.length() >= CHUNK_CHARS) {
+                    send(emitter, chunk);
+                }
+            });
+            send(emitter, chunk);
+            emitter.complete();
+            logger.info("Exported {} employees. departmentId: {}", rows.get(), departmentId);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            logger.warn("Employee export failed after {} rows: {}", rows.get(), e.getMessage());
+            emitter.completeWithError(e);
+        } finally {
+            sample.stop(Timer.builder("reports.export")
+                    .tag("report", "employees")
+                    .tag("outcome", outcome)
+                    .description("Export duration, from the start of the query to the last row written")
+                    .register(meterRegistry));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static void send(ResponseBodyEmitter emitter, StringBuilder chunk) {
+        if (chunk.length() == 0) {
+            return;
+        }
+        try {
+            emitter.send(chunk.toString(), TEXT_CSV);
+        } catch (IOException e) {
+            // Usually the client went away; stops the query.
+            throw new UncheckedIOException(e);
+        }
+        chunk.setLength(0);
+    }
+
+    private static void appendRow(StringBuilder out, ResultSet rs) throws SQLException {
+        out.append(rs.getLong("employee_id")).append(',');
+        appendField(out, rs.getString("full_name")).append(',');
+        appendField(out, rs.getString("email")).append(',');
+        out.append(rs.getLong("department_id")).append(',');
+        appendField(out, rs.getString("department_name")).append(',');
+        BigDecimal salary = rs.getBigDecimal("salary");
+        if (salary != null) {
+            out.append(salary.toPlainString());
+        }
+        out.append(',');
+        Date joiningDate = rs.getDate("joining_date");
+        if (joiningDate != null) {
+            out.append(joiningDate.toLocalDate());
+        }
+        out.append('\n');
+    }
+
+    // RFC 4180: fields with a comma, quote or line break are quoted, with quotes doubled.
+    private static StringBuilder appendField(StringBuilder out, String value) {
+        if (value == null) {
+            return out;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return out.append(value);
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"');
+    }
+}
@@ -0,0 +1,51 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.entity.Employee;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Pure helpers of the employee read paths in EmployeeService and DepartmentService: entity-to-DTO mapping and
+ * the sort requested by the list endpoints. Static and dependency-free, so the benchmarks module can measure them
+ * directly.
+ */
+final class EmployeeMapping {
+
+    private EmployeeMapping() {
+    }
+
+    static Sort sort(String sortBy, String sortDir) {
+        return sortDir.equalsIgnoreCase("desc")
+                ? Sort.by(sortField(sortBy)).descending()
+                : Sort.by(sortField(sortBy)).ascending();
+    }
+
+    static String sortField(String sortBy) {
+        switch (sortBy.toLowerCase()) {
+            case "name":
+                return "fullName";
+            case "department":
+                return "department.departmentName";
+            case "joiningdate":
+            case "joining_date":
+                return "joiningDate";
+            default:
+                return "id";
+        }
+    }
+
+    static EmployeeDTO toDTO(Employee employee) {
+        return EmployeeDTO.builder()
+                .id(employee.getId())
+                .fullName(employee.getFullName())
+                .email(employee.getEmail())
+                .departmentId(employee.getDepartment().getId())
+                .departmentName(employee.getDepartment().getDepartmentName())
+                .salary(employee.getSalary())
+                .joiningDate(employee.getJoiningDate())
+                .createdAt(employee.getCreatedAt())
+                .updatedAt(employee.getUpdatedAt())
+                .version(employee.getVersion())
+                .build();
+    }
+}
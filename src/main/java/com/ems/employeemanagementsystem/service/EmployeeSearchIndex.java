@@ -0,0 +1,461 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.entity.Employee;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index over employee names and emails for search and autocomplete.
+ *
+ * Terms of three or more characters are matched as substrings through a trigram index; shorter terms are
+ * matched as word prefixes through a sorted token map. The index is loaded once the application is ready and
+ * kept current from EmployeeChangedEvent after each commit. Changes that commit while the initial load runs
+ * are re-read afterwards, so the index never keeps a row the load saw before a later write.
+ *
+ * One- and two-character queries match a large share of all employees, yet are what autocomplete sends first.
+ * Their top hits are cached, and a write only drops the cached prefixes of the words it touched.
+ */
+@Component
+public class EmployeeSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int CACHED_PREFIX_LENGTH = 2;
+
+    private final EmployeeRepository employeeRepository;
+    private final int loadBatchSize;
+    private final int maxResults;
+    // Filled under the read lock and invalidated under the write lock, so an entry never predates a write.
+    private final Map<String, List<Hit>> shortPrefixHits = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guards ready and changedDuringLoad together, so no change slips between the load and the switch to live updates.
+    private final Object loadMonitor = new Object();
+    private final Set<Long> changedDuringLoad = new HashSet<>();
+    private volatile boolean ready;
+    private Postings postings = new Postings();
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository,
+                               @Value("${app.search.load-batch-size:10000}") int loadBatchSize,
+                               @Value("${app.search.max-results:50}") int maxResults) {
+        this.employeeRepository = employeeRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.maxResults = maxResults;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postings.ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        Postings loaded = new Postings();
+        long afterId = 0;
+        List<Object[]> rows;
+        do {
+            rows = employeeRepository.findSearchFieldsAfter(afterId, PageRequest.of(0, loadBatchSize));
+            for (Object[] row : rows) {
+                loaded.add(new Entry((Long) row[0], (String) row[1], (String) row[2]));
+                afterId = (Long) row[0];
+            }
+        } while (rows.size() == loadBatchSize);
+
+        List<Long> changed;
+        synchronized (loadMonitor) {
+            lock.writeLock().lock();
+            try {
+                postings = loaded;
+                shortPrefixHits.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            changed = new ArrayList<>(changedDuringLoad);
+            changedDuringLoad.clear();
+        }
+        refresh(changed);
+        logger.info("Employee search index loaded: {} employees in {} ms", size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!ready) {
+            synchronized (loadMonitor) {
+                if (!ready) {
+                    changedDuringLoad.add(event.getEmployeeId());
+                    return;
+                }
+            }
+        }
+        if (event.getType() == ChangeType.DELETED) {
+            remove(event.getEmployeeId());
+        } else {
+            EmployeeDTO after = event.getAfter();
+            put(new Entry(after.getId(), after.getFullName(), after.getEmail()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesChanged(EmployeeBatchChangedEvent batch) {
+        batch.getChanges().forEach(this::onEmployeeChanged);
+    }
+
+    /**
+     * Employees matching every term of the query, best match first. A term matching a whole word ranks above
+     * a word prefix, which ranks above a substring, and matches in the name rank above matches in the email.
+     */
+    public List<Hit> search(String query, int limit) {
+        String[] terms = terms(query);
+        if (terms.length == 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (terms.length == 1 && terms[0].length() <= CACHED_PREFIX_LENGTH && limit <= maxResults) {
+                List<Hit> hits = shortPrefixHits.computeIfAbsent(terms[0], term -> rank(terms, maxResults));
+                return new ArrayList<>(hits.subList(0, Math.min(limit, hits.size())));
+            }
+            return rank(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> rank(String[] terms, int limit) {
+        IntList candidates = postings.candidates(terms);
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        BitSet seen = new BitSet();
+        for (int i = 0; i < candidates.size; i++) {
+            int ordinal = candidates.values[i];
+            Entry entry = postings.entries.get(ordinal);
+            if (entry == null || seen.get(ordinal)) {
+                continue;
+            }
+            seen.set(ordinal);
+            int score = score(entry, terms);
+            if (score == 0 || (best.size() == limit && cannotBeat(best.peek(), score, entry))) {
+                continue;
+            }
+            best.add(new Hit(entry.id, entry.fullName, entry.email, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private void refresh(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(ids);
+        for (Employee employee : employeeRepository.findAllById(ids)) {
+            put(new Entry(employee.getId(), employee.getFullName(), employee.getEmail()));
+            missing.remove(employee.getId());
+        }
+        missing.forEach(this::remove);
+    }
+
+    private void put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            invalidatePrefixes(postings.remove(entry.id));
+            invalidatePrefixes(entry);
+            postings.add(entry);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            invalidatePrefixes(postings.remove(id));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void invalidatePrefixes(Entry entry) {
+        if (entry == null || shortPrefixHits.isEmpty()) {
+            return;
+        }
+        for (String[] tokens : new String[][]{entry.nameTokens, entry.mailTokens}) {
+            for (String token : tokens) {
+                for (int length = 1; length <= Math.min(CACHED_PREFIX_LENGTH, token.length()); length++) {
+                    shortPrefixHits.remove(token.substring(0, length));
+                }
+            }
+        }
+    }
+
+    // Updates leave the old ordinal behind in the posting lists; rebuild once a quarter of them are dead.
+    private void compactIfNeeded() {
+        if (postings.removed > 1024 && postings.removed * 4 > postings.entries.size()) {
+            Postings compacted = new Postings();
+            for (Entry entry : postings.entries) {
+                if (entry != null) {
+                    compacted.add(entry);
+                }
+            }
+            postings = compacted;
+        }
+    }
+
+    // Cheap pre-check against the current worst hit, so most candidates of a short prefix allocate nothing.
+    private static boolean cannotBeat(Hit worst, int score, Entry entry) {
+        return score < worst.score
+                || (score == worst.score && entry.fullName.length() > worst.fullName.length());
+    }
+
+    private static int score(Entry entry, String[] terms) {
+        int total = 0;
+        for (String term : terms) {
+            int score = termScore(entry.nameTokens, entry.name, term, 10, 6, 3);
+            if (score == 0) {
+                score = termScore(entry.mailTokens, entry.mail, term, 5, 4, 2);
+            }
+            if (score == 0) {
+                return 0;
+            }
+            total += score;
+        }
+        return total;
+    }
+
+    private static int termScore(String[] tokens, String text, String term, int word, int prefix, int substring) {
+        int best = 0;
+        for (String token : tokens) {
+            if (token.equals(term)) {
+                return word;
+            }
+            if (token.startsWith(term)) {
+                best = prefix;
+            }
+        }
+        if (best == 0 && term.length() >= 3 && text.contains(term)) {
+            best = substring;
+        }
+        return best;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return stripped.toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static String[] terms(String query) {
+        String normalized = normalize(query);
+        return normalized.isEmpty() ? new String[0] : WHITESPACE.split(normalized);
+    }
+
+    private static String[] tokens(String normalized) {
+        return Arrays.stream(NON_ALPHANUMERIC.split(normalized)).filter(t -> !t.isEmpty()).toArray(String[]::new);
+    }
+
+    private static long trigram(String text, int i) {
+        return ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+    }
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::getScore).reversed()
+            .thenComparingInt(hit -> hit.getFullName().length())
+            .thenComparing(Hit::getFullName)
+            .thenComparing(Hit::getId);
+
+    public static final class Hit {
+        private final Long id;
+        private final String fullName;
+        private final String email;
+        private final int score;
+
+        Hit(Long id, String fullName, String email, int score) {
+            this.id = id;
+            this.fullName = fullName;
+            this.email = email;
+            this.score = score;
+        }
+
+        public Long getId() { return id; }
+        public String getFullName() { return fullName; }
+        public String getEmail() { return email; }
+        public int getScore() { return score; }
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final String fullName;
+        private final String email;
+        private final String name;
+        private final String mail;
+        private final String[] nameTokens;
+        // Only the local part is tokenized; the domain is shared by most employees and would match everyone.
+        private final String[] mailTokens;
+
+        private Entry(Long id, String fullName, String email) {
+            this.id = id;
+            this.fullName = fullName;
+            this.email = email;
+            this.name = normalize(fullName);
+            this.mail = normalize(email);
+            this.nameTokens = tokens(name);
+            int at = mail.indexOf('@');
+            this.mailTokens = tokens(at >= 0 ? mail.substring(0, at) : mail);
+        }
+    }
+
+    /**
+     * Posting lists keyed by entry ordinal. Ordinals only grow, so every list stays sorted; a removed entry
+     * leaves a null slot that readers skip until the next compaction.
+     */
+    private static final class Postings {
+        private final List<Entry> entries = new ArrayList<>();
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final Map<Long, IntList> trigrams = new HashMap<>();
+        private final TreeMap<String, IntList> tokens = new TreeMap<>();
+        private int removed;
+
+        void add(Entry entry) {
+            int ordinal = entries.size();
+            entries.add(entry);
+            ordinals.put(entry.id, ordinal);
+
+            Set<Long> grams = new HashSet<>();
+            collectTrigrams(entry.name, grams);
+            collectTrigrams(entry.mail, grams);
+            for (Long gram : grams) {
+                trigrams.computeIfAbsent(gram, k -> new IntList()).add(ordinal);
+            }
+            Set<String> words = new LinkedHashSet<>(Arrays.asList(entry.nameTokens));
+            words.addAll(Arrays.asList(entry.mailTokens));
+            for (String word : words) {
+                tokens.computeIfAbsent(word, k -> new IntList()).add(ordinal);
+            }
+        }
+
+        Entry remove(Long id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return null;
+            }
+            removed++;
+            return entries.set(ordinal, null);
+        }
+
+        /**
+         * Candidate ordinals from the most selective term; every candidate is still verified against all terms.
+         */
+        IntList candidates(String[] terms) {
+            IntList best = null;
+            for (String term : terms) {
+                IntList candidates = term.length() >= 3 ? byTrigrams(term) : byPrefix(term);
+                if (best == null || candidates.size < best.size) {
+                    best = candidates;
+                }
+                if (best.size == 0) {
+                    break;
+                }
+            }
+            return best;
+        }
+
+        // The rarest trigram of the term; a substring match must contain all of them, so this list is a superset.
+        private IntList byTrigrams(String term) {
+            IntList rarest = null;
+            for (int i = 0; i + 3 <= term.length(); i++) {
+                IntList list = trigrams.get(trigram(term, i));
+                if (list == null) {
+                    return new IntList();
+                }
+                if (rarest == null || list.size < rarest.size) {
+                    rarest = list;
+                }
+            }
+            return rarest;
+        }
+
+        private IntList byPrefix(String prefix) {
+            IntList union = new IntList();
+            for (IntList list : tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                union.addAll(list);
+            }
+            return union;
+        }
+
+        private static void collectTrigrams(String text, Set<Long> grams) {
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                grams.add(trigram(text, i));
+            }
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(IntList other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+
+    }
+}
@@ -1,50 +1,133 @@
 package com.ems.employeemanagementsystem.service;
 
 import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDeleteResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeLookupResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeReassignDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeReassignResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeSuggestionDTO;
 import com.ems.employeemanagementsystem.dto.NotificationDTO;
+import com.ems.employeemanagementsystem.dto.SliceDTO;
+import com.ems.employeemanagementsystem.cache.EtagRegistry;
+import com.ems.employeemanagementsystem.cache.ReadCoalescer;
 import com.ems.employeemanagementsystem.entity.Department;
 import com.ems.employeemanagementsystem.entity.Employee;
+import com.ems.employeemanagementsystem.event.AfterCommit;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.exception.BadRequestException;
+import com.ems.employeemanagementsystem.exception.ConflictException;
 import com.ems.employeemanagementsystem.exception.DuplicateResourceException;
+import com.ems.employeemanagementsystem.exception.PreconditionFailedException;
 import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.ems.employeemanagementsystem.messaging.NotificationPublisher;
 import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import com.ems.employeemanagementsystem.repository.LeaveRequestRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
 @Service
 @Transactional
 public class EmployeeService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
     private static final int DEFAULT_PAGE_SIZE = 10;
+    // Ids per DELETE statement when a delete spans many employees.
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    private static final String EMAIL_CONSTRAINT = "uk_employees_email";
+    private static final Set<String> PATCHABLE_FIELDS = new HashSet<>(
+            Arrays.asList("fullName", "email", "departmentId", "salary", "joiningDate"));
 
     private final EmployeeRepository employeeRepository;
     private final DepartmentService departmentService;
     private final NotificationPublisher notificationPublisher;
+    private final EmployeeCountCache employeeCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeSearchIndex searchIndex;
+    private final EmailBloomFilter emailFilter;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ReadCoalescer readCoalescer;
+
+    @Value("${app.pagination.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${app.lookup.max-batch-size:500}")
+    private int maxLookupBatchSize;
+
+    @Value("${app.search.max-results:50}")
+    private int maxSearchResults;
+
+    @Value("${app.delete.max-batch-size:1000}")
+    private int maxDeleteBatchSize;
+
+    @Value("${app.reassign.max-batch-size:1000}")
+    private int maxReassignBatchSize;
 
     public EmployeeService(EmployeeRepository employeeRepository,
                            DepartmentService departmentService,
-                           NotificationPublisher notificationPublisher) {
+                           NotificationPublisher notificationPublisher,
+                           EmployeeCountCache employeeCountCache,
+                           ApplicationEventPublisher eventPublisher,
+                           EmployeeSearchIndex searchIndex,
+                           EmailBloomFilter emailFilter,
+                           LeaveRequestRepository leaveRequestRepository,
+                           ObjectMapper objectMapper,
+                           Validator validator,
+                           ReadCoalescer readCoalescer) {
         this.employeeRepository = employeeRepository;
         this.departmentService = departmentService;
         this.notificationPublisher = notificationPublisher;
+        this.employeeCountCache = employeeCountCache;
+        this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
+        this.emailFilter = emailFilter;
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.readCoalescer = readCoalescer;
     }
 
     public Page<EmployeeDTO> getAllEmployees(int page, String sortBy, String sortDir, Long departmentId) {
         logger.info("Fetching employees - page: {}, sortBy: {}, sortDir: {}, departmentId: {}",
                 page, sortBy, sortDir, departmentId);
 
-        Sort sort = sortDir.equalsIgnoreCase("desc")
-                ? Sort.by(resolveSortField(sortBy)).descending()
-                : Sort.by(resolveSortField(sortBy)).ascending();
-
-        Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE, sort);
+        Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE, EmployeeMapping.sort(sortBy, sortDir));
 
         Page<Employee> employeePage;
         if (departmentId != null) {
@@ -53,20 +136,104 @@ public class EmployeeService {
             employeePage = employeeRepository.findAll(pageable);
         }
 
-        return employeePage.map(this::mapToDTO);
+        return employeePage.map(EmployeeMapping::toDTO);
+    }
+
+    public SliceDTO<EmployeeDTO> getEmployeeSlice(int page, int size, String sortBy, String sortDir,
+                                                  Long departmentId, boolean includeTotal) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        logger.info("Fetching employee slice - page: {}, size: {}, sortBy: {}, sortDir: {}, departmentId: {}",
+                page, pageSize, sortBy, sortDir, departmentId);
+
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize, EmployeeMapping.sort(sortBy, sortDir));
+
+        Slice<Employee> slice;
+        if (departmentId != null) {
+            slice = employeeRepository.findSliceByDepartmentId(departmentId, pageable);
+        } else {
+            slice = employeeRepository.findSliceBy(pageable);
+        }
+
+        return SliceDTO.<EmployeeDTO>builder()
+                .content(slice.map(EmployeeMapping::toDTO).getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .approximateTotal(includeTotal ? employeeCountCache.approximateCount(departmentId) : null)
+                .build();
     }
 
+    // No transaction of its own: concurrent callers share one load and wait without holding a connection.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EmployeeDTO getEmployeeById(Long id) {
         logger.info("Fetching employee with ID: {}", id);
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
-        return mapToDTO(employee);
+        return readCoalescer.employee(id, () -> employeeRepository.findById(id)
+                .map(EmployeeMapping::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id)));
+    }
+
+    public List<EmployeeLookupResultDTO> lookupEmployees(List<Long> ids) {
+        if (ids.size() > maxLookupBatchSize) {
+            throw new BadRequestException("At most " + maxLookupBatchSize + " employee ids can be looked up at once");
+        }
+        logger.info("Looking up {} employees", ids.size());
+
+        Map<Long, EmployeeDTO> byId = new HashMap<>();
+        for (Employee employee : employeeRepository.findAllWithDepartmentByIdIn(new LinkedHashSet<>(ids))) {
+            byId.put(employee.getId(), EmployeeMapping.toDTO(employee));
+        }
+
+        return ids.stream()
+                .map(id -> byId.containsKey(id)
+                        ? EmployeeLookupResultDTO.found(byId.get(id))
+                        : EmployeeLookupResultDTO.missing(id))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Ranked search over name and email. Matching runs in memory; only the returned page of employees is read
+     * from the database, in one query.
+     */
+    public List<EmployeeDTO> searchEmployees(String query, int limit) {
+        int max = validateSearch(query, limit);
+        logger.info("Searching employees - query: '{}', limit: {}", query, max);
+
+        if (!searchIndex.isReady()) {
+            return searchByLike(query, max).stream().map(EmployeeMapping::toDTO).collect(Collectors.toList());
+        }
+
+        List<EmployeeSearchIndex.Hit> hits = searchIndex.search(query, max);
+        if (hits.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, EmployeeDTO> byId = new HashMap<>();
+        List<Long> ids = hits.stream().map(EmployeeSearchIndex.Hit::getId).collect(Collectors.toList());
+        for (Employee employee : employeeRepository.findAllWithDepartmentByIdIn(ids)) {
+            byId.put(employee.getId(), EmployeeMapping.toDTO(employee));
+        }
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    public List<EmployeeSuggestionDTO> autocompleteEmployees(String query, int limit) {
+        int max = validateSearch(query, limit);
+
+        if (!searchIndex.isReady()) {
+            return searchByLike(query, max).stream()
+                    .map(e -> new EmployeeSuggestionDTO(e.getId(), e.getFullName(), e.getEmail()))
+                    .collect(Collectors.toList());
+        }
+        return searchIndex.search(query, max).stream()
+                .map(hit -> new EmployeeSuggestionDTO(hit.getId(), hit.getFullName(), hit.getEmail()))
+                .collect(Collectors.toList());
     }
 
     public EmployeeDTO createEmployee(EmployeeDTO employeeDTO) {
         logger.info("Creating employee: {}", employeeDTO.getFullName());
 
-        if (employeeRepository.existsByEmail(employeeDTO.getEmail())) {
+        if (emailTaken(employeeDTO.getEmail())) {
             throw new DuplicateResourceException(
                     "Employee already exists with email: " + employeeDTO.getEmail());
         }
@@ -81,7 +248,8 @@ public class EmployeeService {
                 .joiningDate(employeeDTO.getJoiningDate())
                 .build();
 
-        Employee savedEmployee = employeeRepository.save(employee);
+        emailFilter.put(employee.getEmail());
+        Employee savedEmployee = saveUniqueEmail(employee);
         logger.info("Employee created successfully with ID: {}", savedEmployee.getId());
 
         try {
@@ -96,22 +264,31 @@ public class EmployeeService {
             logger.error("Failed to send employee notification, but employee was created: {}", e.getMessage());
         }
 
-        return mapToDTO(savedEmployee);
+        EmployeeDTO created = EmployeeMapping.toDTO(savedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.CREATED, created.getId(), null, created));
+        return created;
     }
 
-    public EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO) {
+    /**
+     * Replaces the employee's fields. A lost update is refused rather than locked against: ifMatch, when given,
+     * must match the current ETag (412), a version in the body must match the stored one (409), and a write that
+     * commits in between fails the version check on flush (409).
+     */
+    public EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO, String ifMatch) {
         logger.info("Updating employee with ID: {}", id);
 
         Employee existingEmployee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        checkPreconditions(existingEmployee, employeeDTO.getVersion(), ifMatch);
 
         if (!existingEmployee.getEmail().equals(employeeDTO.getEmail())
-                && employeeRepository.existsByEmail(employeeDTO.getEmail())) {
+                && emailTaken(employeeDTO.getEmail())) {
             throw new DuplicateResourceException(
                     "Employee already exists with email: " + employeeDTO.getEmail());
         }
 
         Department department = departmentService.getDepartmentEntity(employeeDTO.getDepartmentId());
+        EmployeeDTO before = EmployeeMapping.toDTO(existingEmployee);
 
         existingEmployee.setFullName(employeeDTO.getFullName());
         existingEmployee.setEmail(employeeDTO.getEmail());
@@ -119,49 +296,362 @@ public class EmployeeService {
         existingEmployee.setSalary(employeeDTO.getSalary());
         existingEmployee.setJoiningDate(employeeDTO.getJoiningDate());
 
-        Employee updatedEmployee = employeeRepository.save(existingEmployee);
+        emailFilter.put(existingEmployee.getEmail());
+        Employee updatedEmployee = saveUniqueEmail(existingEmployee);
         logger.info("Employee updated successfully with ID: {}", updatedEmployee.getId());
-        return mapToDTO(updatedEmployee);
+
+        EmployeeDTO updated = EmployeeMapping.toDTO(updatedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.UPDATED, id, before, updated));
+        return updated;
+    }
+
+    /**
+     * Applies a JSON merge patch (RFC 7396). Only fields present in the patch are considered, and of those only
+     * the ones whose value differs are written; the email is rechecked and the department looked up only when they
+     * change. With @DynamicUpdate on Employee, a salary edit is one SELECT and one narrow UPDATE. Conflicts are
+     * detected as in {@link #updateEmployee}; a "version" member in the patch acts as the expected version.
+     */
+    public EmployeeDTO patchEmployee(Long id, JsonNode patch, String ifMatch) {
+        logger.info("Patching employee with ID: {}", id);
+
+        Employee existingEmployee = employeeRepository.findWithDepartmentById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        JsonNode expectedVersion = patch != null ? patch.get("version") : null;
+        if (expectedVersion != null && !expectedVersion.canConvertToLong()) {
+            throw new BadRequestException("version must be a number");
+        }
+        checkPreconditions(existingEmployee, expectedVersion != null ? expectedVersion.asLong() : null, ifMatch);
+        EmployeeDTO before = EmployeeMapping.toDTO(existingEmployee);
+
+        EmployeeDTO patched = applyMergePatch(before, patch);
+        boolean changed = false;
+        if (!patched.getFullName().equals(existingEmployee.getFullName())) {
+            existingEmployee.setFullName(patched.getFullName());
+            changed = true;
+        }
+        boolean emailChanged = !patched.getEmail().equals(existingEmployee.getEmail());
+        if (emailChanged) {
+            if (emailTaken(patched.getEmail())) {
+                throw new DuplicateResourceException("Employee already exists with email: " + patched.getEmail());
+            }
+            existingEmployee.setEmail(patched.getEmail());
+            emailFilter.put(patched.getEmail());
+            changed = true;
+        }
+        if (!patched.getDepartmentId().equals(before.getDepartmentId())) {
+            existingEmployee.setDepartment(departmentService.getDepartmentEntity(patched.getDepartmentId()));
+            changed = true;
+        }
+        if (patched.getSalary() == null ? existingEmployee.getSalary() != null
+                : existingEmployee.getSalary() == null || patched.getSalary().compareTo(existingEmployee.getSalary()) != 0) {
+            existingEmployee.setSalary(patched.getSalary());
+            changed = true;
+        }
+        if (!Objects.equals(patched.getJoiningDate(), existingEmployee.getJoiningDate())) {
+            existingEmployee.setJoiningDate(patched.getJoiningDate());
+            changed = true;
+        }
+        if (!changed) {
+            return before;
+        }
+
+        Employee updatedEmployee = emailChanged
+                ? saveUniqueEmail(existingEmployee)
+                : employeeRepository.saveAndFlush(existingEmployee);
+        logger.info("Employee patched successfully with ID: {}", id);
+
+        EmployeeDTO updated = EmployeeMapping.toDTO(updatedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.UPDATED, id, before, updated));
+        return updated;
+    }
+
+    private void checkPreconditions(Employee employee, Long expectedVersion, String ifMatch) {
+        if (ifMatch != null
+                && !EtagRegistry.matches(ifMatch, EtagRegistry.employeeTag(EmployeeMapping.toDTO(employee)))) {
+            throw new PreconditionFailedException("Employee " + employee.getId() + " has changed since it was read");
+        }
+        if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+            throw new ConflictException("Employee " + employee.getId() + " is at version " + employee.getVersion()
+                    + ", not " + expectedVersion + "; reload and retry");
+        }
+    }
+
+    // Employee fields are all scalars, so merging is a top-level replace, with null removing the value.
+    private EmployeeDTO applyMergePatch(EmployeeDTO current, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("A merge patch must be a JSON object");
+        }
+        Set<String> rejected = new TreeSet<>();
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!PATCHABLE_FIELDS.contains(field) && !field.equals("version")) {
+                rejected.add(field);
+            }
+        });
+        if (!rejected.isEmpty()) {
+            throw new BadRequestException("Fields cannot be patched: " + String.join(", ", rejected));
+        }
+
+        ObjectNode target = objectMapper.valueToTree(current);
+        patch.fields().forEachRemaining(field -> {
+            if (!PATCHABLE_FIELDS.contains(field.getKey())) {
+                return;
+            }
+            if (field.getValue().isNull()) {
+                target.remove(field.getKey());
+            } else {
+                target.set(field.getKey(), field.getValue());
+            }
+        });
+
+        EmployeeDTO patched;
+        try {
+            patched = objectMapper.treeToValue(target, EmployeeDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Invalid value in merge patch: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return patched;
     }
 
     public void deleteEmployee(Long id) {
         logger.info("Deleting employee with ID: {}", id);
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
-        employeeRepository.delete(employee);
+        List<Long> locked = employeeRepository.lockIds(Collections.singletonList(id));
+        if (locked.isEmpty()) {
+            throw new ResourceNotFoundException("Employee", "id", id);
+        }
+        deleteLocked(locked);
         logger.info("Employee deleted successfully with ID: {}", id);
     }
 
+    public EmployeeDeleteResultDTO deleteEmployees(List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > maxDeleteBatchSize) {
+            throw new BadRequestException("At most " + maxDeleteBatchSize + " employees can be deleted at once");
+        }
+        logger.info("Bulk deleting {} employees", distinctIds.size());
+
+        List<Long> locked = employeeRepository.lockIds(distinctIds);
+        deleteLocked(locked);
+
+        Set<Long> deleted = new HashSet<>(locked);
+        List<Long> notFound = distinctIds.stream().filter(id -> !deleted.contains(id)).collect(Collectors.toList());
+        logger.info("Bulk delete done. Deleted: {}, requested: {}", locked.size(), distinctIds.size());
+        return new EmployeeDeleteResultDTO(locked.size(), notFound);
+    }
+
+    public EmployeeDeleteResultDTO deleteDepartmentEmployees(Long departmentId) {
+        logger.info("Deleting all employees of department ID: {}", departmentId);
+        departmentService.getDepartmentEntity(departmentId);
+
+        List<Long> locked = employeeRepository.lockIdsByDepartmentId(departmentId);
+        deleteLocked(locked);
+        logger.info("Deleted {} employees of department ID: {}", locked.size(), departmentId);
+        return new EmployeeDeleteResultDTO(locked.size(), null);
+    }
+
+    /**
+     * Moves employees selected by id and/or current department to another department in one transaction.
+     */
+    public EmployeeReassignResultDTO reassignEmployees(EmployeeReassignDTO request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (!byIds && request.getFromDepartmentId() == null) {
+            throw new BadRequestException("Either ids or fromDepartmentId is required");
+        }
+        Set<Long> distinctIds = byIds ? new LinkedHashSet<>(request.getIds()) : Collections.emptySet();
+        if (distinctIds.size() > maxReassignBatchSize) {
+            throw new BadRequestException("At most " + maxReassignBatchSize + " employees can be moved at once");
+        }
+        logger.info("Reassigning employees - ids: {}, fromDepartmentId: {}, toDepartmentId: {}",
+                distinctIds.size(), request.getFromDepartmentId(), request.getToDepartmentId());
+
+        Department target = departmentService.getDepartmentEntity(request.getToDepartmentId());
+        if (request.getFromDepartmentId() != null) {
+            departmentService.getDepartmentEntity(request.getFromDepartmentId());
+        }
+        List<Long> locked = byIds
+                ? employeeRepository.lockIds(distinctIds)
+                : employeeRepository.lockIdsByDepartmentId(request.getFromDepartmentId());
+        int moved = moveLocked(locked, request.getFromDepartmentId(), target);
+
+        List<Long> notFound = null;
+        if (byIds) {
+            Set<Long> found = new HashSet<>(locked);
+            notFound = distinctIds.stream().filter(id -> !found.contains(id)).collect(Collectors.toList());
+        }
+        logger.info("Reassigned {} employees to department ID: {}", moved, target.getId());
+        return new EmployeeReassignResultDTO(moved, notFound);
+    }
+
+    /**
+     * Moves every employee of the source department to the target and deletes the source. The source row stays
+     * locked until commit, so no employee can join it in between.
+     */
+    public int mergeDepartments(Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new BadRequestException("A department cannot be merged into itself");
+        }
+        logger.info("Merging department ID: {} into department ID: {}", sourceId, targetId);
+        Department target = departmentService.getDepartmentEntity(targetId);
+        departmentService.lockDepartment(sourceId);
+
+        int moved = moveLocked(employeeRepository.lockIdsByDepartmentId(sourceId), sourceId, target);
+        departmentService.deleteEmptyDepartment(sourceId);
+        logger.info("Merged department ID: {} into department ID: {}, moved {} employees", sourceId, targetId, moved);
+        return moved;
+    }
+
+    /**
+     * Moves already locked employees with one UPDATE per DELETE_CHUNK_SIZE ids, skipping those that are already in
+     * the target or, when fromDepartmentId is set, not in that department. The UPDATED changes go out as one batch
+     * event, as for deletes, and the transfer notifications as one RabbitMQ message after commit.
+     */
+    private int moveLocked(List<Long> ids, Long fromDepartmentId, Department target) {
+        Long targetId = target.getId();
+        String targetName = target.getDepartmentName();
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<EmployeeChangedEvent> changes = new ArrayList<>();
+        List<NotificationDTO> notifications = new ArrayList<>();
+
+        for (List<Long> chunk : chunks(ids)) {
+            List<EmployeeDTO> before = new ArrayList<>(chunk.size());
+            for (Employee employee : employeeRepository.findAllWithDepartmentByIdIn(chunk)) {
+                Long departmentId = employee.getDepartment().getId();
+                if (!departmentId.equals(targetId)
+                        && (fromDepartmentId == null || fromDepartmentId.equals(departmentId))) {
+                    before.add(EmployeeMapping.toDTO(employee));
+                }
+            }
+            if (before.isEmpty()) {
+                continue;
+            }
+            employeeRepository.reassignDepartment(
+                    before.stream().map(EmployeeDTO::getId).collect(Collectors.toList()), target, updatedAt);
+
+            for (EmployeeDTO previous : before) {
+                EmployeeDTO after = EmployeeDTO.builder()
+                        .id(previous.getId())
+                        .fullName(previous.getFullName())
+                        .email(previous.getEmail())
+                        .departmentId(targetId)
+                        .departmentName(targetName)
+                        .salary(previous.getSalary())
+                        .joiningDate(previous.getJoiningDate())
+                        .createdAt(previous.getCreatedAt())
+                        .updatedAt(updatedAt)
+                        .version(previous.getVersion() != null ? previous.getVersion() + 1 : null)
+                        .build();
+                changes.add(new EmployeeChangedEvent(ChangeType.UPDATED, after.getId(), previous, after));
+                notifications.add(NotificationDTO.builder()
+                        .employeeName(after.getFullName())
+                        .employeeEmail(after.getEmail())
+                        .employeeId(after.getId())
+                        .department(targetName)
+                        .build());
+            }
+        }
+
+        publishChanges(changes);
+        AfterCommit.run(() -> notificationPublisher.publishEmployeeTransferNotifications(notifications));
+        return notifications.size();
+    }
+
+    /**
+     * Deletes already locked employees with set-based statements: their leave requests first, then the employees,
+     * DELETE_CHUNK_SIZE ids at a time. The cascade on Employee.leaveRequests is bypassed because it would load and
+     * delete every leave request one by one. The DELETED changes go out as one batch event, which the change log
+     * records with batched inserts and the caches, search index, analytics and change stream apply in one pass.
+     */
+    private void deleteLocked(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<EmployeeChangedEvent> deleted = new ArrayList<>(ids.size());
+        for (List<Long> chunk : chunks(ids)) {
+            for (Employee employee : employeeRepository.findAllWithDepartmentByIdIn(chunk)) {
+                deleted.add(new EmployeeChangedEvent(
+                        ChangeType.DELETED, employee.getId(), EmployeeMapping.toDTO(employee), null));
+            }
+            int leaves = leaveRequestRepository.deleteByEmployeeIdIn(chunk);
+            employeeRepository.deleteByIdIn(chunk);
+            logger.debug("Deleted {} employees and {} leave requests", chunk.size(), leaves);
+        }
+        publishChanges(deleted);
+    }
+
+    // A single change keeps the plain event, so deleting or moving one employee looks the same as an update.
+    private void publishChanges(List<EmployeeChangedEvent> changes) {
+        if (changes.size() == 1) {
+            eventPublisher.publishEvent(changes.get(0));
+        } else if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new EmployeeBatchChangedEvent(changes));
+        }
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private boolean emailTaken(String email) {
+        if (!emailFilter.mightContain(email)) {
+            return false;
+        }
+        boolean exists = employeeRepository.existsByEmail(email);
+        emailFilter.recordDatabaseCheck(exists);
+        return exists;
+    }
+
+    // The check above can race with a concurrent write of the same email; the unique constraint settles it.
+    private Employee saveUniqueEmail(Employee employee) {
+        try {
+            return employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            if (!violatesEmailConstraint(e)) {
+                throw e;
+            }
+            throw new DuplicateResourceException("Employee already exists with email: " + employee.getEmail());
+        }
+    }
+
+    // Other violations, such as a department removed under us, must not be reported as a duplicate email.
+    private static boolean violatesEmailConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String detail = cause instanceof ConstraintViolationException
+                    ? ((ConstraintViolationException) cause).getConstraintName()
+                    : cause.getMessage();
+            if (detail != null && detail.toLowerCase(Locale.ROOT).contains(EMAIL_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int validateSearch(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (query.length() > 100) {
+            throw new BadRequestException("Search query must be at most 100 characters");
+        }
+        return Math.max(1, Math.min(limit, maxSearchResults));
+    }
+
+    private List<Employee> searchByLike(String query, int max) {
+        String term = query.trim().toLowerCase(Locale.ROOT).replace("%", "").replace("_", "");
+        return employeeRepository.findByNameOrEmailLike("%" + term + "%", PageRequest.of(0, max));
+    }
+
     public Employee getEmployeeEntity(Long id) {
         return employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
     }
-
-    private String resolveSortField(String sortBy) {
-        switch (sortBy.toLowerCase()) {
-            case "name":
-                return "fullName";
-            case "department":
-                return "department.departmentName";
-            case "joiningdate":
-            case "joining_date":
-                return "joiningDate";
-            default:
-                return "id";
-        }
-    }
-
-    private EmployeeDTO mapToDTO(Employee employee) {
-        return EmployeeDTO.builder()
-                .id(employee.getId())
-                .fullName(employee.getFullName())
-                .email(employee.getEmail())
-                .departmentId(employee.getDepartment().getId())
-                .departmentName(employee.getDepartment().getDepartmentName())
-                .salary(employee.getSalary())
-                .joiningDate(employee.getJoiningDate())
-                .createdAt(employee.getCreatedAt())
-                .updatedAt(employee.getUpdatedAt())
-                .build();
-    }
 }
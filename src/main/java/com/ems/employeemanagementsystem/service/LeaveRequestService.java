@@ -1,21 +1,46 @@
 package com.ems.employeemanagementsystem.service;
 
+import com.ems.employeemanagementsystem.dto.CursorSliceDTO;
 import com.ems.employeemanagementsystem.dto.LeaveRequestDTO;
+import com.ems.employeemanagementsystem.dto.LeaveStatusOutcomeDTO;
 import com.ems.employeemanagementsystem.dto.LeaveStatusUpdateDTO;
 import com.ems.employeemanagementsystem.dto.NotificationDTO;
+import com.ems.employeemanagementsystem.entity.Department;
 import com.ems.employeemanagementsystem.entity.Employee;
 import com.ems.employeemanagementsystem.entity.LeaveRequest;
 import com.ems.employeemanagementsystem.entity.enums.LeaveStatus;
+import com.ems.employeemanagementsystem.event.AfterCommit;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.LeaveBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.LeaveChangedEvent;
 import com.ems.employeemanagementsystem.exception.BadRequestException;
+import com.ems.employeemanagementsystem.exception.ConflictException;
 import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.ems.employeemanagementsystem.messaging.NotificationPublisher;
 import com.ems.employeemanagementsystem.repository.LeaveRequestRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,13 +52,27 @@ public class LeaveRequestService {
     private final LeaveRequestRepository leaveRequestRepository;
     private final EmployeeService employeeService;
     private final NotificationPublisher notificationPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Keyset start and open date-window bounds, kept within the MySQL DATE/DATETIME ranges.
+    private static final LocalDateTime INBOX_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+
+    @Value("${app.leave.bulk-max-size:1000}")
+    private int bulkMaxSize;
+
+    @Value("${app.pagination.max-page-size:100}")
+    private int maxPageSize;
 
     public LeaveRequestService(LeaveRequestRepository leaveRequestRepository,
                                EmployeeService employeeService,
-                               NotificationPublisher notificationPublisher) {
+                               NotificationPublisher notificationPublisher,
+                               ApplicationEventPublisher eventPublisher) {
         this.leaveRequestRepository = leaveRequestRepository;
         this.employeeService = employeeService;
         this.notificationPublisher = notificationPublisher;
+        this.eventPublisher = eventPublisher;
     }
 
     public LeaveRequestDTO submitLeaveRequest(LeaveRequestDTO leaveRequestDTO) {
@@ -55,41 +94,98 @@ public class LeaveRequestService {
 
         LeaveRequest savedRequest = leaveRequestRepository.save(leaveRequest);
         logger.info("Leave request submitted successfully with ID: {}", savedRequest.getId());
-        return mapToDTO(savedRequest);
+        LeaveRequestDTO result = mapToDTO(savedRequest);
+        publishChange(ChangeType.CREATED, savedRequest, result);
+        return result;
     }
 
+    /**
+     * Decides a PENDING request with a single conditional UPDATE, so of two concurrent decisions exactly one
+     * matches the row and the other gets a ConflictException. The notification is published after commit.
+     */
     public LeaveRequestDTO updateLeaveStatus(Long leaveId, LeaveStatusUpdateDTO statusUpdate) {
-        logger.info("Updating leave request status. Leave ID: {}, New Status: {}",
-                leaveId, statusUpdate.getStatus());
+        LeaveStatus status = statusUpdate.getStatus();
+        logger.info("Updating leave request status. Leave ID: {}, New Status: {}", leaveId, status);
 
-        LeaveRequest leaveRequest = leaveRequestRepository.findById(leaveId)
-                .orElseThrow(() -> new ResourceNotFoundException("Leave Request", "id", leaveId));
+        if (status == LeaveStatus.PENDING) {
+            throw new BadRequestException("Leave requests can only be moved to APPROVED or REJECTED");
+        }
 
-        if (leaveRequest.getStatus() != LeaveStatus.PENDING) {
-            throw new BadRequestException("Can only update status of PENDING leave requests");
+        Set<Long> ids = Collections.singleton(leaveId);
+        int updated = leaveRequestRepository.updateStatusWhereStatus(ids, LeaveStatus.PENDING, status);
+        if (updated == 0) {
+            LeaveRequest current = leaveRequestRepository.findById(leaveId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Leave Request", "id", leaveId));
+            throw new ConflictException("Leave request " + leaveId + " is already " + current.getStatus());
         }
 
-        leaveRequest.setStatus(statusUpdate.getStatus());
-        LeaveRequest updatedRequest = leaveRequestRepository.save(leaveRequest);
+        LeaveRequest updatedRequest = leaveRequestRepository.findAllWithEmployeeByIdIn(ids).get(0);
         logger.info("Leave request status updated successfully. Leave ID: {}", leaveId);
 
-        try {
-            Employee employee = leaveRequest.getEmployee();
-            NotificationDTO notification = NotificationDTO.builder()
-                    .employeeName(employee.getFullName())
-                    .employeeEmail(employee.getEmail())
-                    .leaveStartDate(leaveRequest.getStartDate().toString())
-                    .leaveEndDate(leaveRequest.getEndDate().toString())
-                    .leaveStatus(statusUpdate.getStatus().name())
-                    .requestId(leaveId)
-                    .build();
-            notificationPublisher.publishLeaveStatusNotification(notification);
-        } catch (Exception e) {
-            logger.error("Failed to send leave status notification, but status was updated: {}",
-                    e.getMessage());
+        NotificationDTO notification = buildStatusNotification(updatedRequest, status);
+        AfterCommit.run(() -> {
+            try {
+                notificationPublisher.publishLeaveStatusNotification(notification);
+            } catch (Exception e) {
+                logger.error("Failed to send leave status notification, but status was updated: {}",
+                        e.getMessage());
+            }
+        });
+
+        LeaveRequestDTO result = mapToDTO(updatedRequest);
+        publishChange(ChangeType.UPDATED, updatedRequest, result);
+        return result;
+    }
+
+    /**
+     * Moves many PENDING requests to APPROVED or REJECTED in a fixed number of statements: lock the pending
+     * rows, one conditional UPDATE, and one read for the outcomes. The changes are published as one batch event,
+     * and notifications go out after commit as a single batched publish, so no row lock is held while talking to
+     * the broker.
+     */
+    public List<LeaveStatusOutcomeDTO> updateLeaveStatuses(List<Long> ids, LeaveStatus status) {
+        if (status == LeaveStatus.PENDING) {
+            throw new BadRequestException("Bulk status update only supports APPROVED or REJECTED");
         }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > bulkMaxSize) {
+            throw new BadRequestException("At most " + bulkMaxSize + " leave requests can be updated at once");
+        }
+        logger.info("Bulk updating {} leave requests to {}", distinctIds.size(), status);
 
-        return mapToDTO(updatedRequest);
+        Set<Long> pendingIds = new HashSet<>(leaveRequestRepository.lockPendingIds(distinctIds));
+        if (!pendingIds.isEmpty()) {
+            leaveRequestRepository.updateStatusWhereStatus(pendingIds, LeaveStatus.PENDING, status);
+        }
+
+        Map<Long, LeaveRequest> byId = leaveRequestRepository.findAllWithEmployeeByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(LeaveRequest::getId, Function.identity()));
+
+        List<LeaveStatusOutcomeDTO> outcomes = new ArrayList<>(distinctIds.size());
+        List<NotificationDTO> notifications = new ArrayList<>(pendingIds.size());
+        List<LeaveChangedEvent> changes = new ArrayList<>(pendingIds.size());
+        for (Long id : distinctIds) {
+            LeaveRequest leaveRequest = byId.get(id);
+            if (leaveRequest == null) {
+                outcomes.add(new LeaveStatusOutcomeDTO(id, LeaveStatusOutcomeDTO.Outcome.NOT_FOUND, null));
+            } else if (pendingIds.contains(id)) {
+                outcomes.add(new LeaveStatusOutcomeDTO(id, LeaveStatusOutcomeDTO.Outcome.UPDATED, status));
+                notifications.add(buildStatusNotification(leaveRequest, status));
+                changes.add(toChange(ChangeType.UPDATED, leaveRequest, mapToDTO(leaveRequest)));
+            } else {
+                outcomes.add(new LeaveStatusOutcomeDTO(
+                        id, LeaveStatusOutcomeDTO.Outcome.NOT_PENDING, leaveRequest.getStatus()));
+            }
+        }
+
+        if (changes.size() == 1) {
+            eventPublisher.publishEvent(changes.get(0));
+        } else if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new LeaveBatchChangedEvent(changes));
+        }
+        logger.info("Bulk leave status update done. Updated: {}, requested: {}", pendingIds.size(), distinctIds.size());
+        AfterCommit.run(() -> notificationPublisher.publishLeaveStatusNotifications(notifications));
+        return outcomes;
     }
 
     public List<LeaveRequestDTO> getEmployeeLeaves(Long employeeId) {
@@ -102,6 +198,95 @@ public class LeaveRequestService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Approver inbox: PENDING requests oldest first, optionally limited to a department and to requests that
+     * overlap [from, to]. Pages continue from an opaque (createdAt, id) cursor rather than an offset, so every
+     * page is a short range scan on the (status, created_at) index however many decided requests exist.
+     */
+    public CursorSliceDTO<LeaveRequestDTO> getPendingLeaves(Long departmentId, LocalDate from, LocalDate to,
+                                                            String cursor, int size) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        logger.info("Fetching pending leave requests - departmentId: {}, from: {}, to: {}, size: {}",
+                departmentId, from, to, pageSize);
+
+        LocalDateTime afterCreatedAt = INBOX_START;
+        Long afterId = 0L;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = decodeCursor(cursor);
+            afterCreatedAt = LocalDateTime.parse(parts[0]);
+            afterId = Long.valueOf(parts[1]);
+        }
+        LocalDate windowFrom = from != null ? from : EARLIEST_DATE;
+        LocalDate windowTo = to != null ? to : LATEST_DATE;
+        Pageable pageable = PageRequest.of(0, pageSize);
+
+        Slice<LeaveRequest> slice;
+        if (departmentId != null) {
+            slice = leaveRequestRepository.findByStatusAndDepartmentAfter(LeaveStatus.PENDING, departmentId,
+                    afterCreatedAt, afterId, windowFrom, windowTo, pageable);
+        } else {
+            slice = leaveRequestRepository.findByStatusAfter(LeaveStatus.PENDING,
+                    afterCreatedAt, afterId, windowFrom, windowTo, pageable);
+        }
+
+        List<LeaveRequest> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            LeaveRequest last = content.get(content.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        return CursorSliceDTO.<LeaveRequestDTO>builder()
+                .content(content.stream().map(this::mapToDTO).collect(Collectors.toList()))
+                .size(pageSize)
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(raw);
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private void publishChange(ChangeType type, LeaveRequest leaveRequest, LeaveRequestDTO dto) {
+        eventPublisher.publishEvent(toChange(type, leaveRequest, dto));
+    }
+
+    private static LeaveChangedEvent toChange(ChangeType type, LeaveRequest leaveRequest, LeaveRequestDTO dto) {
+        Department department = leaveRequest.getEmployee().getDepartment();
+        return new LeaveChangedEvent(type, dto, department != null ? department.getId() : null);
+    }
+
+    private NotificationDTO buildStatusNotification(LeaveRequest leaveRequest, LeaveStatus status) {
+        Employee employee = leaveRequest.getEmployee();
+        return NotificationDTO.builder()
+                .employeeName(employee.getFullName())
+                .employeeEmail(employee.getEmail())
+                .leaveStartDate(leaveRequest.getStartDate().toString())
+                .leaveEndDate(leaveRequest.getEndDate().toString())
+                .leaveStatus(status.name())
+                .requestId(leaveRequest.getId())
+                .build();
+    }
+
     private LeaveRequestDTO mapToDTO(LeaveRequest leaveRequest) {
         return LeaveRequestDTO.builder()
                 .id(leaveRequest.getId())
@@ -0,0 +1,79 @@
+package com.ems.employeemanagementsystem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs read-modify-write work from internal batch jobs in its own transaction and reruns it when a concurrent
+ * writer bumped an entity version first. HTTP requests do not use it: there the conflict goes back to the client
+ * as 409, because only the client can decide whether its edit still applies.
+ *
+ * Each attempt must reload what it modifies, so the work has to start outside any transaction; an attempt inside
+ * the caller's transaction would keep seeing the stale entities from its persistence context.
+ */
+@Component
+public class OptimisticLockRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetry.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager,
+                               @Value("${app.optimistic-retry.max-attempts:3}") int maxAttempts,
+                               @Value("${app.optimistic-retry.backoff-ms:50}") long backoffMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+    }
+
+    public <T> T execute(String jobName, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(jobName + " must be retried outside a transaction");
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    logger.error("{} gave up after {} attempts on concurrent modification", jobName, attempt);
+                    throw e;
+                }
+                logger.warn("{} hit a concurrent modification, retrying (attempt {} of {})",
+                        jobName, attempt + 1, maxAttempts);
+                pause(attempt, e);
+            }
+        }
+    }
+
+    public void run(String jobName, Runnable work) {
+        execute(jobName, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // Linear backoff with jitter, so two jobs that collided do not collide again on the same schedule.
+    private void pause(int attempt, OptimisticLockingFailureException cause) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,570 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.dto.DepartmentPayrollDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.dto.MonthlyCountDTO;
+import com.ems.employeemanagementsystem.dto.PayrollSummaryDTO;
+import com.ems.employeemanagementsystem.entity.Department;
+import com.ems.employeemanagementsystem.entity.Employee;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.DepartmentChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.exception.BadRequestException;
+import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.ems.employeemanagementsystem.exception.ServiceUnavailableException;
+import com.ems.employeemanagementsystem.repository.DepartmentRepository;
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Columnar copy of the employee fields that payroll and headcount reports need: department, salary in cents and
+ * joining month, one primitive array each, ordered by employee id. Reports scan the arrays in parallel on a
+ * dedicated fork/join pool instead of reading BigDecimal rows from the database.
+ *
+ * The columns are loaded once the application is ready and kept current from EmployeeChangedEvent after each
+ * commit, with the same hand-over as EmployeeSearchIndex for changes that commit while the load runs.
+ * Every department also keeps its salaries in a sorted array that writes update in place, so department
+ * quantiles are direct lookups and company-wide ones a binary search over the salary range.
+ */
+@Component
+public class PayrollAnalytics {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollAnalytics.class);
+    private static final long NO_SALARY = Long.MIN_VALUE;
+    private static final int NO_MONTH = Integer.MIN_VALUE;
+    private static final int REMOVED = -1;
+    private static final int LEAF_SIZE = 1 << 16;
+    private static final int MAX_MONTHS = 1200;
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final int loadBatchSize;
+    private final ForkJoinPool pool;
+    private final Map<Long, String> departmentNames = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guards ready and changedDuringLoad together, so no change slips between the load and the switch to live updates.
+    private final Object loadMonitor = new Object();
+    private final Set<Long> changedDuringLoad = new HashSet<>();
+    private volatile boolean ready;
+    private Columns columns = new Columns(16);
+
+    public PayrollAnalytics(EmployeeRepository employeeRepository,
+                            DepartmentRepository departmentRepository,
+                            @Value("${app.analytics.load-batch-size:10000}") int loadBatchSize,
+                            @Value("${app.analytics.parallelism:0}") int parallelism) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        for (Department department : departmentRepository.findAll()) {
+            departmentNames.put(department.getId(), department.getDepartmentName());
+        }
+        Columns loaded = new Columns(loadBatchSize);
+        long afterId = 0;
+        List<Object[]> rows;
+        do {
+            rows = employeeRepository.findAnalyticsFieldsAfter(afterId, PageRequest.of(0, loadBatchSize));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                loaded.append(afterId, (Long) row[1], cents((BigDecimal) row[2]), month((LocalDate) row[3]));
+            }
+        } while (rows.size() == loadBatchSize);
+        forEach(loaded.departmentBySlot.size(), loaded::sortSalaries);
+
+        List<Long> changed;
+        synchronized (loadMonitor) {
+            lock.writeLock().lock();
+            try {
+                columns = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            changed = new ArrayList<>(changedDuringLoad);
+            changedDuringLoad.clear();
+        }
+        refresh(changed);
+        logger.info("Payroll analytics loaded: {} employees in {} ms", loaded.size - loaded.removed,
+                System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!ready) {
+            synchronized (loadMonitor) {
+                if (!ready) {
+                    changedDuringLoad.add(event.getEmployeeId());
+                    return;
+                }
+            }
+        }
+        EmployeeDTO after = event.getAfter();
+        lock.writeLock().lock();
+        try {
+            if (event.getType() == ChangeType.DELETED) {
+                columns.remove(event.getEmployeeId());
+            } else {
+                columns.upsert(after.getId(), after.getDepartmentId(), cents(after.getSalary()),
+                        month(after.getJoiningDate()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesChanged(EmployeeBatchChangedEvent batch) {
+        batch.getChanges().forEach(this::onEmployeeChanged);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            departmentNames.remove(event.getDepartmentId());
+        } else {
+            departmentNames.put(event.getDepartmentId(), event.getAfter().getDepartmentName());
+        }
+    }
+
+    private void refresh(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(ids);
+        List<Employee> employees = employeeRepository.findAllById(ids);
+        lock.writeLock().lock();
+        try {
+            for (Employee employee : employees) {
+                columns.upsert(employee.getId(), employee.getDepartment().getId(), cents(employee.getSalary()),
+                        month(employee.getJoiningDate()));
+                missing.remove(employee.getId());
+            }
+            missing.forEach(columns::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Headcount, total, mean, median and p90 salary for the whole company and for every department.
+     */
+    public PayrollSummaryDTO payrollSummary() {
+        requireReady();
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            int slots = c.departmentBySlot.size();
+            int leaves = Math.max(1, (c.size + LEAF_SIZE - 1) / LEAF_SIZE);
+            long[][] headcounts = new long[leaves][];
+            long[][] totals = new long[leaves][];
+            forEach(leaves, leaf -> {
+                long[] headcount = new long[slots];
+                long[] total = new long[slots];
+                for (int i = leaf * LEAF_SIZE, end = Math.min(c.size, i + LEAF_SIZE); i < end; i++) {
+                    int slot = c.slots[i];
+                    if (slot == REMOVED) {
+                        continue;
+                    }
+                    headcount[slot]++;
+                    if (c.salaries[i] != NO_SALARY) {
+                        total[slot] += c.salaries[i];
+                    }
+                }
+                headcounts[leaf] = headcount;
+                totals[leaf] = total;
+            });
+
+            Map<Long, DepartmentPayrollDTO> byDepartment = new TreeMap<>();
+            departmentNames.forEach((id, name) -> byDepartment.put(id,
+                    DepartmentPayrollDTO.builder().departmentId(id).departmentName(name).build()));
+            long companyHeadcount = 0;
+            long companyTotal = 0;
+            long companySalaried = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                long headcount = 0;
+                long total = 0;
+                for (int leaf = 0; leaf < leaves; leaf++) {
+                    headcount += headcounts[leaf][slot];
+                    total += totals[leaf][slot];
+                }
+                companyHeadcount += headcount;
+                companyTotal += total;
+                companySalaried += c.salaryCounts[slot];
+                if (headcount == 0) {
+                    continue;
+                }
+                long[] sorted = c.sortedSalaries[slot];
+                int n = c.salaryCounts[slot];
+                Long departmentId = c.departmentBySlot.get(slot);
+                byDepartment.put(departmentId, stats(departmentId, departmentNames.get(departmentId), headcount,
+                        n, total, rank -> sorted[(int) rank]));
+            }
+            DepartmentPayrollDTO company = stats(null, null, companyHeadcount, companySalaried, companyTotal,
+                    c::salaryAtRank);
+            return new PayrollSummaryDTO(company, new ArrayList<>(byDepartment.values()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Joiners per calendar month from {@code from} to {@code to} inclusive, company-wide or for one department.
+     * Months without joiners are included with a count of 0.
+     */
+    public List<MonthlyCountDTO> joinersPerMonth(Long departmentId, YearMonth from, YearMonth to) {
+        requireReady();
+        YearMonth last = to != null ? to : YearMonth.now();
+        YearMonth first = from != null ? from : last.minusMonths(11);
+        if (first.isAfter(last)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        int firstMonth = month(first.atDay(1));
+        int months = month(last.atDay(1)) - firstMonth + 1;
+        if (months > MAX_MONTHS) {
+            throw new BadRequestException("At most " + MAX_MONTHS + " months can be requested at once");
+        }
+        if (departmentId != null && !departmentNames.containsKey(departmentId)) {
+            throw new ResourceNotFoundException("Department", "id", departmentId);
+        }
+
+        long[] counts = new long[months];
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            Integer slot = departmentId != null ? c.slotByDepartment.get(departmentId) : null;
+            if (departmentId == null || slot != null) {
+                int wanted = slot != null ? slot : REMOVED;
+                int leaves = Math.max(1, (c.size + LEAF_SIZE - 1) / LEAF_SIZE);
+                long[][] partial = new long[leaves][];
+                forEach(leaves, leaf -> {
+                    long[] local = new long[months];
+                    for (int i = leaf * LEAF_SIZE, end = Math.min(c.size, i + LEAF_SIZE); i < end; i++) {
+                        int offset = c.months[i] - firstMonth;
+                        if (c.slots[i] != REMOVED && (wanted == REMOVED || c.slots[i] == wanted)
+                                && c.months[i] != NO_MONTH && offset >= 0 && offset < months) {
+                            local[offset]++;
+                        }
+                    }
+                    partial[leaf] = local;
+                });
+                for (long[] local : partial) {
+                    for (int m = 0; m < months; m++) {
+                        counts[m] += local[m];
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<MonthlyCountDTO> result = new ArrayList<>(months);
+        for (int m = 0; m < months; m++) {
+            result.add(new MonthlyCountDTO(first.plusMonths(m).toString(), counts[m]));
+        }
+        return result;
+    }
+
+    private void requireReady() {
+        if (!ready) {
+            throw new ServiceUnavailableException("Payroll analytics are still loading, please retry shortly");
+        }
+    }
+
+    private void forEach(int count, IntConsumer task) {
+        if (count == 1) {
+            task.accept(0);
+        } else if (count > 1) {
+            pool.invoke(new Split(0, count, task));
+        }
+    }
+
+    // p90 is the nearest-rank percentile; the median of an even count is the mean of the two middle salaries.
+    private static DepartmentPayrollDTO stats(Long departmentId, String name, long headcount, long salaried,
+                                              long totalCents, LongUnaryOperator salaryAtRank) {
+        DepartmentPayrollDTO.Builder builder = DepartmentPayrollDTO.builder()
+                .departmentId(departmentId)
+                .departmentName(name)
+                .headcount(headcount);
+        if (salaried > 0) {
+            BigDecimal total = BigDecimal.valueOf(totalCents, 2);
+            BigDecimal median = BigDecimal.valueOf(salaryAtRank.applyAsLong((salaried - 1) / 2), 2);
+            if (salaried % 2 == 0) {
+                median = median.add(BigDecimal.valueOf(salaryAtRank.applyAsLong(salaried / 2), 2))
+                        .divide(TWO, 2, RoundingMode.HALF_UP);
+            }
+            builder.totalSalary(total)
+                    .meanSalary(total.divide(BigDecimal.valueOf(salaried), 2, RoundingMode.HALF_UP))
+                    .medianSalary(median)
+                    .p90Salary(BigDecimal.valueOf(salaryAtRank.applyAsLong((long) Math.ceil(salaried * 0.9) - 1), 2));
+        }
+        return builder.build();
+    }
+
+    private static long cents(BigDecimal salary) {
+        return salary != null ? salary.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() : NO_SALARY;
+    }
+
+    private static int month(LocalDate date) {
+        return date != null ? date.getYear() * 12 + date.getMonthValue() - 1 : NO_MONTH;
+    }
+
+    private static final class Split extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer task;
+
+        private Split(int from, int to, IntConsumer task) {
+            this.from = from;
+            this.to = to;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                task.accept(from);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Split(from, mid, task), new Split(mid, to, task));
+            }
+        }
+    }
+
+    /**
+     * One slot per employee, sorted by id so lookups are a binary search. Departments are numbered densely so
+     * aggregations can index plain arrays. A removed employee keeps its slot, marked REMOVED, until compaction.
+     */
+    private static final class Columns {
+        private long[] ids;
+        private int[] slots;
+        private long[] salaries;
+        private int[] months;
+        private int size;
+        private int removed;
+        private final Map<Long, Integer> slotByDepartment = new HashMap<>();
+        private final List<Long> departmentBySlot = new ArrayList<>();
+        // Per department slot: the salaries of its current employees, ascending in [0, salaryCounts[slot]).
+        private long[][] sortedSalaries = new long[16][];
+        private int[] salaryCounts = new int[16];
+
+        private Columns(int capacity) {
+            ids = new long[capacity];
+            slots = new int[capacity];
+            salaries = new long[capacity];
+            months = new int[capacity];
+        }
+
+        // Load path: ids arrive in ascending order and the salary groups are sorted once at the end.
+        void append(long id, Long departmentId, long salary, int month) {
+            int slot = slotOf(departmentId);
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            slots[size] = slot;
+            salaries[size] = salary;
+            months[size] = month;
+            size++;
+            if (salary != NO_SALARY) {
+                long[] group = sortedSalaries[slot];
+                if (salaryCounts[slot] == group.length) {
+                    group = sortedSalaries[slot] = Arrays.copyOf(group, group.length * 2);
+                }
+                group[salaryCounts[slot]++] = salary;
+            }
+        }
+
+        void sortSalaries(int slot) {
+            Arrays.sort(sortedSalaries[slot], 0, salaryCounts[slot]);
+        }
+
+        void upsert(long id, Long departmentId, long salary, int month) {
+            int slot = slotOf(departmentId);
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                if (slots[index] == REMOVED) {
+                    removed--;
+                } else {
+                    removeSalary(slots[index], salaries[index]);
+                }
+            } else {
+                // Ids arrive in ascending order except when transactions commit out of id order.
+                index = -index - 1;
+                if (size == ids.length) {
+                    grow();
+                }
+                if (index < size) {
+                    System.arraycopy(ids, index, ids, index + 1, size - index);
+                    System.arraycopy(slots, index, slots, index + 1, size - index);
+                    System.arraycopy(salaries, index, salaries, index + 1, size - index);
+                    System.arraycopy(months, index, months, index + 1, size - index);
+                }
+                size++;
+            }
+            ids[index] = id;
+            slots[index] = slot;
+            salaries[index] = salary;
+            months[index] = month;
+            addSalary(slot, salary);
+        }
+
+        void remove(Long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0 && slots[index] != REMOVED) {
+                removeSalary(slots[index], salaries[index]);
+                slots[index] = REMOVED;
+                removed++;
+                if (removed > 1024 && removed * 4 > size) {
+                    compact();
+                }
+            }
+        }
+
+        // The salary with the given 0-based rank across all departments: the smallest s with more than rank
+        // salaries <= s, found by bisecting the salary range and counting in every sorted group.
+        long salaryAtRank(long rank) {
+            long low = Long.MAX_VALUE;
+            long high = Long.MIN_VALUE;
+            for (int slot = 0; slot < departmentBySlot.size(); slot++) {
+                if (salaryCounts[slot] > 0) {
+                    low = Math.min(low, sortedSalaries[slot][0]);
+                    high = Math.max(high, sortedSalaries[slot][salaryCounts[slot] - 1]);
+                }
+            }
+            while (low < high) {
+                long mid = low + (high - low) / 2;
+                long atMost = 0;
+                for (int slot = 0; slot < departmentBySlot.size(); slot++) {
+                    atMost += upperBound(sortedSalaries[slot], salaryCounts[slot], mid);
+                }
+                if (atMost > rank) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        private int slotOf(Long departmentId) {
+            return slotByDepartment.computeIfAbsent(departmentId, key -> {
+                int slot = departmentBySlot.size();
+                departmentBySlot.add(key);
+                if (slot == sortedSalaries.length) {
+                    sortedSalaries = Arrays.copyOf(sortedSalaries, slot * 2);
+                    salaryCounts = Arrays.copyOf(salaryCounts, slot * 2);
+                }
+                sortedSalaries[slot] = new long[16];
+                return slot;
+            });
+        }
+
+        private void addSalary(int slot, long salary) {
+            if (salary == NO_SALARY) {
+                return;
+            }
+            long[] group = sortedSalaries[slot];
+            int count = salaryCounts[slot];
+            if (count == group.length) {
+                group = sortedSalaries[slot] = Arrays.copyOf(group, group.length * 2);
+            }
+            int at = upperBound(group, count, salary);
+            System.arraycopy(group, at, group, at + 1, count - at);
+            group[at] = salary;
+            salaryCounts[slot] = count + 1;
+        }
+
+        private void removeSalary(int slot, long salary) {
+            if (salary == NO_SALARY) {
+                return;
+            }
+            long[] group = sortedSalaries[slot];
+            int count = salaryCounts[slot];
+            int at = Arrays.binarySearch(group, 0, count, salary);
+            System.arraycopy(group, at + 1, group, at, count - at - 1);
+            salaryCounts[slot] = count - 1;
+        }
+
+        private static int upperBound(long[] sorted, int count, long value) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void grow() {
+            int capacity = Math.max(16, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            months = Arrays.copyOf(months, capacity);
+        }
+
+        private void compact() {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (slots[i] != REMOVED) {
+                    ids[kept] = ids[i];
+                    slots[kept] = slots[i];
+                    salaries[kept] = salaries[i];
+                    months[kept] = months[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            removed = 0;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+-- Baseline schema, as previously created by Hibernate (ddl-auto: update).
+-- Databases that already hold these tables are baselined at version 1 and skip this script.
+
+CREATE TABLE IF NOT EXISTS departments (
+    department_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    department_name VARCHAR(255) NOT NULL,
+    location        VARCHAR(255),
+    created_at      DATETIME(6),
+    PRIMARY KEY (department_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS employees (
+    employee_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    full_name     VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    department_id BIGINT       NOT NULL,
+    salary        DECIMAL(12, 2),
+    joining_date  DATE,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (employee_id),
+    CONSTRAINT uk_employees_email UNIQUE (email),
+    CONSTRAINT fk_employees_department FOREIGN KEY (department_id) REFERENCES departments (department_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS leave_requests (
+    leave_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    employee_id BIGINT       NOT NULL,
+    start_date  DATE         NOT NULL,
+    end_date    DATE         NOT NULL,
+    status      VARCHAR(255) NOT NULL,
+    reason      VARCHAR(500),
+    created_at  DATETIME(6),
+    PRIMARY KEY (leave_id),
+    CONSTRAINT fk_leave_requests_employee FOREIGN KEY (employee_id) REFERENCES employees (employee_id)
+) ENGINE = InnoDB;
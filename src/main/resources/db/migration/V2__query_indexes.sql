@@ -0,0 +1,29 @@
+-- Indexes matched to the repository queries. InnoDB appends the primary key to every secondary index,
+-- so each one also covers lookups that only need the row id.
+
+-- Databases created from the old scripts/init.sql used an ENUM here, which schema validation rejects.
+ALTER TABLE leave_requests MODIFY status VARCHAR(255) NOT NULL;
+
+-- The old init.sql did not enforce unique department names. Every duplicate except the oldest is renamed to
+-- "<name> (<id>)" so the unique index below can be built; the grouped derived table lets MySQL read the table
+-- it updates.
+UPDATE departments SET department_name = CONCAT(department_name, ' (', department_id, ')')
+WHERE department_id NOT IN (
+    SELECT keep_id FROM (SELECT MIN(department_id) AS keep_id FROM departments GROUP BY department_name) keep
+);
+
+-- existsByDepartmentName / findByDepartmentName, and the uniqueness DepartmentService already assumes.
+CREATE UNIQUE INDEX uk_departments_name ON departments (department_name);
+
+-- findByDepartmentId sorted by name; also serves the department foreign key.
+CREATE INDEX idx_employees_department_name ON employees (department_id, full_name);
+
+-- findAll sorted by joiningDate or fullName.
+CREATE INDEX idx_employees_joining_date ON employees (joining_date);
+CREATE INDEX idx_employees_full_name ON employees (full_name);
+
+-- findByEmployeeIdOrderByCreatedAtDesc; also serves the employee foreign key.
+CREATE INDEX idx_leave_requests_employee_created ON leave_requests (employee_id, created_at);
+
+-- Leave requests by status, oldest first (approval queues).
+CREATE INDEX idx_leave_requests_status_created ON leave_requests (status, created_at);
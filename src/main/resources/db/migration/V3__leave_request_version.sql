@@ -0,0 +1,2 @@
+-- Optimistic lock column for leave_requests; status transitions bump it in the same conditional UPDATE.
+ALTER TABLE leave_requests ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- Append-only log of committed entity changes, read by GET /api/changes?since=<seq>.
+CREATE TABLE change_log (
+    seq           BIGINT      NOT NULL AUTO_INCREMENT,
+    entity        VARCHAR(32) NOT NULL,
+    entity_id     BIGINT      NOT NULL,
+    change_type   VARCHAR(16) NOT NULL,
+    department_id BIGINT,
+    payload       LONGTEXT,
+    changed_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (seq)
+) ENGINE = InnoDB;
+
+-- Used by the retention job to find the newest entry that is old enough to prune.
+CREATE INDEX idx_change_log_changed_at ON change_log (changed_at);
@@ -0,0 +1,15 @@
+-- Headcount and salary total per department, kept current by every employee write and reconciled periodically.
+CREATE TABLE department_stats (
+    department_id BIGINT         NOT NULL,
+    headcount     BIGINT         NOT NULL DEFAULT 0,
+    salary_total  DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (department_id),
+    CONSTRAINT fk_department_stats_department FOREIGN KEY (department_id)
+        REFERENCES departments (department_id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+INSERT INTO department_stats (department_id, headcount, salary_total)
+SELECT d.department_id, COUNT(e.employee_id), COALESCE(SUM(e.salary), 0)
+FROM departments d
+LEFT JOIN employees e ON e.department_id = d.department_id
+GROUP BY d.department_id;
@@ -0,0 +1,3 @@
+-- Optimistic lock columns for employees and departments; every write, bulk updates included, bumps them.
+ALTER TABLE employees ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE departments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+-- Responses recorded per Idempotency-Key, so a retried POST is answered from here instead of running again.
+-- response_status is NULL while the first request is still running.
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(64)   NOT NULL,
+    request_hash    VARCHAR(64)   NOT NULL,
+    response_status INT,
+    content_type    VARCHAR(255),
+    location        VARCHAR(2048),
+    response_body   LONGTEXT,
+    created_at      DATETIME(6)   NOT NULL,
+    expires_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (idempotency_key)
+) ENGINE = InnoDB;
+
+-- Used by the pruning job.
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
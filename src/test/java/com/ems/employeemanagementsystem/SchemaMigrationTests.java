@@ -0,0 +1,54 @@
+package com.ems.employeemanagementsystem;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots against a schema built only by the Flyway scripts, with Hibernate validating the entity mappings against
+ * it, as production does. The other tests let Hibernate create the schema, so they would not notice a script
+ * that drifts from the entities.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+class SchemaMigrationTests {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrationsApplyAndMatchEntities() {
+        // The context only starts if validation passed.
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("7");
+    }
+
+    @Test
+    void duplicateDepartmentNamesFromInitSqlAreRenamed() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:legacy;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE", "sa", "");
+        Flyway legacy = Flyway.configure().dataSource(dataSource).target("1").load();
+        legacy.migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO departments (department_id, department_name) VALUES "
+                + "(1, 'Sales'), (2, 'Sales'), (3, 'Engineering'), (4, 'Sales')");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT department_name FROM departments ORDER BY department_id", String.class))
+                .containsExactly("Sales", "Sales (2)", "Engineering", "Sales (4)");
+    }
+}
@@ -0,0 +1,136 @@
+package com.ems.employeemanagementsystem.cache;
+
+import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.ems.employeemanagementsystem.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run one load for concurrent callers of the same key and count the coalesced ones")
+    void load_ShouldCoalesceConcurrentCallers() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("employee", 5000, meterRegistry);
+
+        List<Future<String>> results = callConcurrently(flight, () -> "employee-" + loads.incrementAndGet());
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("employee-1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(calls("loaded")).isEqualTo(1);
+        assertThat(calls("coalesced")).isEqualTo(CALLERS - 1);
+        assertThat(meterRegistry.get("singleflight.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand the loader's exception to every waiting caller")
+    void load_ShouldPropagateFailureToWaiters() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("employee", 5000, meterRegistry);
+
+        List<Future<String>> results = callConcurrently(flight, () -> {
+            loads.incrementAndGet();
+            throw new ResourceNotFoundException("Employee", "id", 1L);
+        });
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(ResourceNotFoundException.class);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should give up waiting after the timeout with 503")
+    void load_ShouldTimeOutWaiters() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("employee", 50, meterRegistry);
+        executor.submit(() -> flight.load(1L, this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> flight.load(1L, () -> "unused"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(calls("timed_out")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should start a new load after forget and not cache finished loads")
+    void load_ShouldNotReuseForgottenOrFinishedLoads() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("employee", 5000, meterRegistry);
+        executor.submit(() -> flight.load(1L, this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        flight.forget(1L);
+        assertThat(flight.load(1L, () -> "fresh")).isEqualTo("fresh");
+        assertThat(flight.load(1L, () -> "again")).isEqualTo("again");
+        assertThat(calls("coalesced")).isZero();
+    }
+
+    private List<Future<String>> callConcurrently(SingleFlight<Long, String> flight,
+                                                  Supplier<String> loader) throws Exception {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> flight.load(1L, () -> {
+            loading.countDown();
+            await(release);
+            return loader.get();
+        })));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flight.load(1L, loader)));
+        }
+        while (calls("coalesced") < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        return results;
+    }
+
+    private String blockingLoad() {
+        loading.countDown();
+        await(release);
+        return "stale";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.get("singleflight.calls").tag("outcome", outcome).counter().count();
+    }
+}
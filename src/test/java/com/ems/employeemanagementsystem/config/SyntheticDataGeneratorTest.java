@@ -0,0 +1,123 @@
+package com.ems.employeemanagementsystem.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs the generator at a small scale against H2 in MySQL mode, on a schema built by the Flyway scripts.
+ */
+class SyntheticDataGeneratorTest {
+
+    private static final int DEPARTMENTS = 20;
+    private static final int EMPLOYEES = 2000;
+    private static final int BATCH_SIZE = 500;
+
+    @Test
+    @DisplayName("Should write the configured number of rows in JDBC batches")
+    void generate_ShouldInsertInBatches() {
+        JdbcTemplate jdbcTemplate = spy(new JdbcTemplate(migratedDatabase()));
+        SyntheticDataGenerator generator = generator(jdbcTemplate, 42);
+
+        generator.generate();
+
+        assertThat(count(jdbcTemplate, "departments")).isEqualTo(DEPARTMENTS);
+        assertThat(count(jdbcTemplate, "employees")).isEqualTo(EMPLOYEES);
+        // Each employee draws its leave count around its expected share, so the total lands near the target.
+        assertThat(count(jdbcTemplate, "leave_requests")).isBetween(4500L, 5500L);
+        verify(jdbcTemplate, times(EMPLOYEES / BATCH_SIZE)).batchUpdate(startsWith("INSERT INTO employees"), anyList());
+    }
+
+    @Test
+    @DisplayName("Should produce identical rows for the same seed and reference date")
+    void generate_ShouldBeDeterministic() {
+        JdbcTemplate first = new JdbcTemplate(migratedDatabase());
+        JdbcTemplate second = new JdbcTemplate(migratedDatabase());
+        JdbcTemplate otherSeed = new JdbcTemplate(migratedDatabase());
+
+        generator(first, 42).generate();
+        generator(second, 42).generate();
+        generator(otherSeed, 7).generate();
+
+        for (String query : new String[]{
+                "SELECT * FROM departments ORDER BY department_id",
+                "SELECT * FROM employees ORDER BY employee_id",
+                "SELECT * FROM leave_requests ORDER BY leave_id"}) {
+            assertThat(rows(second, query)).isEqualTo(rows(first, query));
+        }
+        assertThat(rows(otherSeed, "SELECT * FROM employees ORDER BY employee_id"))
+                .isNotEqualTo(rows(first, "SELECT * FROM employees ORDER BY employee_id"));
+    }
+
+    @Test
+    @DisplayName("Should skew department sizes: a few large departments and a long tail of small ones")
+    void generate_ShouldSkewDepartmentSizes() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(migratedDatabase());
+        generator(jdbcTemplate, 42).generate();
+
+        List<Long> sizes = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM employees GROUP BY department_id ORDER BY COUNT(*) DESC", Long.class);
+        long topThree = sizes.get(0) + sizes.get(1) + sizes.get(2);
+        long median = sizes.get(sizes.size() / 2);
+        // Zipf with s = 1.07 over 20 departments gives the top three about half of all employees.
+        assertThat(topThree).isGreaterThan(EMPLOYEES * 2L / 5);
+        assertThat(sizes.get(0)).isGreaterThan(median * 5);
+    }
+
+    @Test
+    @DisplayName("Should report the database as empty only before generation")
+    void isDatabaseEmpty_ShouldDetectExistingData() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(migratedDatabase());
+        SyntheticDataGenerator generator = generator(jdbcTemplate, 42);
+        assertThat(generator.isDatabaseEmpty()).isTrue();
+
+        jdbcTemplate.update("INSERT INTO departments (department_name, version) VALUES ('Existing', 0)");
+
+        assertThat(generator.isDatabaseEmpty()).isFalse();
+    }
+
+    private static DataSource migratedDatabase() {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:seed-" + UUID.randomUUID()
+                + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        return dataSource;
+    }
+
+    private static SyntheticDataGenerator generator(JdbcTemplate jdbcTemplate, long seed) {
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(generator, "departmentCount", DEPARTMENTS);
+        ReflectionTestUtils.setField(generator, "employeeCount", EMPLOYEES);
+        ReflectionTestUtils.setField(generator, "leaveRequestCount", 5000L);
+        ReflectionTestUtils.setField(generator, "randomSeed", seed);
+        ReflectionTestUtils.setField(generator, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(generator, "referenceDateValue", "2024-06-30");
+        return generator;
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private static List<Map<String, Object>> rows(JdbcTemplate jdbcTemplate, String query) {
+        return jdbcTemplate.queryForList(query);
+    }
+}
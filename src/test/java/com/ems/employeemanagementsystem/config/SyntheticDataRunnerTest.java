@@ -0,0 +1,59 @@
+package com.ems.employeemanagementsystem.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyntheticDataRunnerTest {
+
+    @Mock
+    private SyntheticDataGenerator generator;
+
+    @Mock
+    private Environment environment;
+
+    @InjectMocks
+    private SyntheticDataRunner runner;
+
+    @Test
+    @DisplayName("Should generate for the generate-data command and report a zero exit code")
+    void run_ShouldGenerateForCommand() {
+        when(generator.isDatabaseEmpty()).thenReturn(true);
+
+        runner.run(new DefaultApplicationArguments(SyntheticDataRunner.GENERATE_COMMAND));
+
+        verify(generator).generate();
+        assertThat(runner.getExitCode()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip generation when the database already has data")
+    void run_ShouldSkipWhenDatabaseNotEmpty() {
+        when(generator.isDatabaseEmpty()).thenReturn(false);
+
+        runner.run(new DefaultApplicationArguments(SyntheticDataRunner.GENERATE_COMMAND));
+
+        verify(generator, never()).generate();
+    }
+
+    @Test
+    @DisplayName("Should do nothing without the command or the seed profile")
+    void run_ShouldDoNothingByDefault() {
+        when(environment.acceptsProfiles(any(Profiles.class))).thenReturn(false);
+
+        runner.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(generator);
+    }
+}
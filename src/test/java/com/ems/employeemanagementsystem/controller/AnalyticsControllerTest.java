@@ -0,0 +1,80 @@
+package com.ems.employeemanagementsystem.controller;
+
+import com.ems.employeemanagementsystem.dto.DepartmentPayrollDTO;
+import com.ems.employeemanagementsystem.dto.MonthlyCountDTO;
+import com.ems.employeemanagementsystem.dto.PayrollSummaryDTO;
+import com.ems.employeemanagementsystem.security.SecurityConfig;
+import com.ems.employeemanagementsystem.service.PayrollAnalytics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AnalyticsController.class)
+@Import(SecurityConfig.class)
+class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PayrollAnalytics payrollAnalytics;
+
+    @Test
+    @DisplayName("GET /api/analytics/payroll - Should return company and department figures (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void getPayrollSummary_ShouldReturnSummary() throws Exception {
+        DepartmentPayrollDTO company = DepartmentPayrollDTO.builder()
+                .headcount(2).totalSalary(new BigDecimal("150000.00")).medianSalary(new BigDecimal("75000.00")).build();
+        DepartmentPayrollDTO engineering = DepartmentPayrollDTO.builder()
+                .departmentId(1L).departmentName("Engineering").headcount(2).build();
+        when(payrollAnalytics.payrollSummary())
+                .thenReturn(new PayrollSummaryDTO(company, Collections.singletonList(engineering)));
+
+        mockMvc.perform(get("/api/analytics/payroll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.company.headcount").value(2))
+                .andExpect(jsonPath("$.data.company.medianSalary").value(75000.00))
+                .andExpect(jsonPath("$.data.company.departmentId").doesNotExist())
+                .andExpect(jsonPath("$.data.departments[0].departmentName").value("Engineering"));
+    }
+
+    @Test
+    @DisplayName("GET /api/analytics/joiners - Should parse yyyy-MM months")
+    @WithMockUser(roles = "ADMIN")
+    void getJoinersPerMonth_ShouldReturnCounts() throws Exception {
+        when(payrollAnalytics.joinersPerMonth(1L, YearMonth.of(2024, 1), YearMonth.of(2024, 2)))
+                .thenReturn(Arrays.asList(new MonthlyCountDTO("2024-01", 3), new MonthlyCountDTO("2024-02", 0)));
+
+        mockMvc.perform(get("/api/analytics/joiners")
+                        .param("departmentId", "1")
+                        .param("from", "2024-01")
+                        .param("to", "2024-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].month").value("2024-01"))
+                .andExpect(jsonPath("$.data[0].count").value(3))
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/analytics/payroll - Should return 403 for USER")
+    @WithMockUser(roles = "USER")
+    void getPayrollSummary_ShouldReturn403ForUser() throws Exception {
+        mockMvc.perform(get("/api/analytics/payroll"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,72 @@
+package com.ems.employeemanagementsystem.controller;
+
+import com.ems.employeemanagementsystem.dto.ChangeEventDTO;
+import com.ems.employeemanagementsystem.dto.ChangeFeedDTO;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.exception.GoneException;
+import com.ems.employeemanagementsystem.security.SecurityConfig;
+import com.ems.employeemanagementsystem.service.ChangeLogService;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ChangeFeedController.class)
+@Import(SecurityConfig.class)
+class ChangeFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ChangeLogService changeLogService;
+
+    @Test
+    @DisplayName("GET /api/changes - Should return changes after the token")
+    @WithMockUser(roles = "USER")
+    void getChanges_ShouldReturnFeed() throws Exception {
+        ChangeEventDTO change = ChangeEventDTO.builder()
+                .sequence(42L)
+                .entity("employee")
+                .type(ChangeType.UPDATED)
+                .id(7L)
+                .departmentId(1L)
+                .data(new RawValue("{\"id\":7,\"fullName\":\"John Smith\"}"))
+                .build();
+        when(changeLogService.getChanges("41", 500)).thenReturn(ChangeFeedDTO.builder()
+                .changes(Collections.singletonList(change))
+                .nextToken("42")
+                .hasMore(false)
+                .build());
+
+        mockMvc.perform(get("/api/changes").param("since", "41"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changes[0].sequence").value(42))
+                .andExpect(jsonPath("$.data.changes[0].data.fullName").value("John Smith"))
+                .andExpect(jsonPath("$.data.nextToken").value("42"))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/changes - Should return 410 for an expired token")
+    @WithMockUser(roles = "USER")
+    void getChanges_ShouldReturn410ForExpiredToken() throws Exception {
+        when(changeLogService.getChanges("1", 500)).thenThrow(new GoneException("resync"));
+
+        mockMvc.perform(get("/api/changes").param("since", "1"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
@@ -0,0 +1,76 @@
+package com.ems.employeemanagementsystem.controller;
+
+import com.ems.employeemanagementsystem.dto.LeaveRequestDTO;
+import com.ems.employeemanagementsystem.entity.enums.LeaveStatus;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.LeaveChangedEvent;
+import com.ems.employeemanagementsystem.messaging.ChangeStreamHub;
+import com.ems.employeemanagementsystem.security.SecurityConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ChangeStreamController.class)
+@Import({SecurityConfig.class, ChangeStreamHub.class})
+class ChangeStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeStreamHub changeStreamHub;
+
+    @Test
+    @DisplayName("GET /api/changes/stream - Should push only the subscribed department's changes")
+    @WithMockUser(roles = "USER")
+    void streamChanges_ShouldFilterByDepartment() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/changes/stream").param("departmentId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        changeStreamHub.onLeaveChanged(new LeaveChangedEvent(ChangeType.UPDATED, leave(20L), 2L));
+        changeStreamHub.onLeaveChanged(new LeaveChangedEvent(ChangeType.UPDATED, leave(10L), 1L));
+
+        String body = awaitContent(result.getResponse(), "\"id\":10");
+        assertThat(body).contains("event:leave");
+        assertThat(body).doesNotContain("\"id\":20");
+        assertThat(result.getResponse().getContentType()).startsWith("text/event-stream");
+    }
+
+    @Test
+    @DisplayName("GET /api/changes/stream - Should return 401 without credentials")
+    void streamChanges_ShouldReturn401WhenAnonymous() throws Exception {
+        mockMvc.perform(get("/api/changes/stream"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private static LeaveRequestDTO leave(Long id) {
+        return LeaveRequestDTO.builder()
+                .id(id)
+                .employeeId(1L)
+                .status(LeaveStatus.APPROVED)
+                .build();
+    }
+
+    // Events are written by the hub's dispatcher thread, so wait for them to reach the response.
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        return body;
+    }
+}
@@ -1,10 +1,15 @@
 package com.ems.employeemanagementsystem.controller;
 
+import com.ems.employeemanagementsystem.cache.EtagRegistry;
+import com.ems.employeemanagementsystem.cache.ResponseFragmentCache;
 import com.ems.employeemanagementsystem.dto.DepartmentDTO;
+import com.ems.employeemanagementsystem.dto.DepartmentMergeDTO;
 import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDeleteResultDTO;
 import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.ems.employeemanagementsystem.security.SecurityConfig;
 import com.ems.employeemanagementsystem.service.DepartmentService;
+import com.ems.employeemanagementsystem.service.EmployeeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,13 +29,16 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(DepartmentController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, EtagRegistry.class, ResponseFragmentCache.class})
 class DepartmentControllerTest {
 
     @Autowired
@@ -38,13 +47,24 @@ class DepartmentControllerTest {
     @MockBean
     private DepartmentService departmentService;
 
+    @MockBean
+    private EmployeeService employeeService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ResponseFragmentCache fragmentCache;
+
+    @Autowired
+    private EtagRegistry etagRegistry;
+
     private DepartmentDTO departmentDTO;
 
     @BeforeEach
     void setUp() {
+        fragmentCache.clear();
+
         departmentDTO = DepartmentDTO.builder()
                 .id(1L)
                 .departmentName("Engineering")
@@ -70,6 +90,20 @@ class DepartmentControllerTest {
                 .andExpect(jsonPath("$.data.length()").value(2));
     }
 
+    @Test
+    @DisplayName("GET /api/departments - Should return 304 for the current ETag without loading departments")
+    @WithMockUser(roles = "USER")
+    void getAllDepartments_ShouldReturn304ForCurrentEtag() throws Exception {
+        String etag = etagRegistry.departmentsEtag();
+
+        mockMvc.perform(get("/api/departments").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, must-revalidate, private"));
+
+        verify(departmentService, never()).getAllDepartments();
+    }
+
     @Test
     @DisplayName("GET /api/departments - Should be accessible by USER role")
     @WithMockUser(roles = "USER")
@@ -150,4 +184,42 @@ class DepartmentControllerTest {
         mockMvc.perform(get("/api/departments/99/employees"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("DELETE /api/departments/{id}/employees - Should delete all employees (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void deleteDepartmentEmployees_ShouldReturnCount() throws Exception {
+        when(employeeService.deleteDepartmentEmployees(1L)).thenReturn(new EmployeeDeleteResultDTO(42, null));
+
+        mockMvc.perform(delete("/api/departments/1/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deleted").value(42))
+                .andExpect(jsonPath("$.data.notFound").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/departments/{id}/employees - Should return 403 for USER")
+    @WithMockUser(roles = "USER")
+    void deleteDepartmentEmployees_ShouldReturn403ForUser() throws Exception {
+        mockMvc.perform(delete("/api/departments/1/employees"))
+                .andExpect(status().isForbidden());
+
+        verify(employeeService, never()).deleteDepartmentEmployees(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/departments/{id}/merge - Should return the target department")
+    @WithMockUser(roles = "ADMIN")
+    void mergeDepartment_ShouldReturnTarget() throws Exception {
+        when(employeeService.mergeDepartments(2L, 1L)).thenReturn(7);
+        departmentDTO.setHeadcount(7L);
+        when(departmentService.getDepartmentById(1L)).thenReturn(departmentDTO);
+
+        mockMvc.perform(post("/api/departments/2/merge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DepartmentMergeDTO(1L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Department merged successfully, moved 7 employees"))
+                .andExpect(jsonPath("$.data.headcount").value(7));
+    }
 }
@@ -1,10 +1,24 @@
 package com.ems.employeemanagementsystem.controller;
 
+import com.ems.employeemanagementsystem.cache.EtagRegistry;
+import com.ems.employeemanagementsystem.cache.ResponseFragmentCache;
+import com.ems.employeemanagementsystem.dto.ApiResponse;
+import com.ems.employeemanagementsystem.dto.BulkEmployeeDeleteDTO;
 import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDeleteResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeReassignDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeReassignResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeLookupRequestDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeLookupResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeSuggestionDTO;
+import com.ems.employeemanagementsystem.dto.SliceDTO;
+import com.ems.employeemanagementsystem.exception.PreconditionFailedException;
 import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.ems.employeemanagementsystem.security.SecurityConfig;
 import com.ems.employeemanagementsystem.service.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,22 +28,29 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EmployeeController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, EtagRegistry.class, ResponseFragmentCache.class})
 class EmployeeControllerTest {
 
     @Autowired
@@ -41,10 +62,15 @@ class EmployeeControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ResponseFragmentCache fragmentCache;
+
     private EmployeeDTO employeeDTO;
 
     @BeforeEach
     void setUp() {
+        fragmentCache.clear();
+
         employeeDTO = EmployeeDTO.builder()
                 .id(1L)
                 .fullName("John Smith")
@@ -73,6 +99,21 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.data.content[0].fullName").value("John Smith"));
     }
 
+    @Test
+    @DisplayName("GET /api/employees/scroll - Should return a slice without total")
+    @WithMockUser(roles = "USER")
+    void scrollEmployees_ShouldReturnSlice() throws Exception {
+        SliceDTO<EmployeeDTO> slice = SliceDTO.<EmployeeDTO>builder()
+                .content(Collections.singletonList(employeeDTO)).page(0).size(20).hasNext(true).build();
+        when(employeeService.getEmployeeSlice(0, 20, "name", "asc", null, false)).thenReturn(slice);
+
+        mockMvc.perform(get("/api/employees/scroll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].fullName").value("John Smith"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.approximateTotal").doesNotExist());
+    }
+
     @Test
     @DisplayName("GET /api/employees - Should be accessible by USER role")
     @WithMockUser(roles = "USER")
@@ -105,6 +146,193 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.data.email").value("john@test.com"));
     }
 
+    @Test
+    @DisplayName("GET /api/employees/{id} - Should answer a matching If-None-Match with 304 without reloading")
+    @WithMockUser(roles = "USER")
+    void getEmployeeById_ShouldReturn304ForMatchingEtag() throws Exception {
+        employeeDTO.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(employeeService.getEmployeeById(1L)).thenReturn(employeeDTO);
+
+        String etag = mockMvc.perform(get("/api/employees/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/employees/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(employeeService, times(1)).getEmployeeById(1L);
+    }
+
+    @Test
+    @DisplayName("GET /api/employees/{id} - Should serve the cached fragment in the same shape Jackson writes")
+    @WithMockUser(roles = "USER")
+    void getEmployeeById_ShouldServeCachedFragment() throws Exception {
+        employeeDTO.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(employeeService.getEmployeeById(1L)).thenReturn(employeeDTO);
+
+        mockMvc.perform(get("/api/employees/1")).andExpect(status().isOk());
+        String body = mockMvc.perform(get("/api/employees/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        ObjectNode actual = (ObjectNode) objectMapper.readTree(body);
+        ObjectNode expected = (ObjectNode) objectMapper.readTree(objectMapper.writeValueAsString(
+                ApiResponse.success(employeeDTO, "Employee retrieved successfully")));
+        JsonNode timestamp = actual.remove("timestamp");
+        expected.remove("timestamp");
+        assertThat(actual).isEqualTo(expected);
+        assertThat(timestamp.asText()).isNotBlank();
+        verify(employeeService, times(1)).getEmployeeById(1L);
+    }
+
+    @Test
+    @DisplayName("GET /api/employees/search - Should return ranked employees (USER)")
+    @WithMockUser(roles = "USER")
+    void searchEmployees_ShouldReturnResults() throws Exception {
+        when(employeeService.searchEmployees("jo smi", 20)).thenReturn(Collections.singletonList(employeeDTO));
+
+        mockMvc.perform(get("/api/employees/search").param("q", "jo smi"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Found 1 employees"))
+                .andExpect(jsonPath("$.data[0].fullName").value("John Smith"));
+    }
+
+    @Test
+    @DisplayName("GET /api/employees/autocomplete - Should return suggestions (USER)")
+    @WithMockUser(roles = "USER")
+    void autocompleteEmployees_ShouldReturnSuggestions() throws Exception {
+        when(employeeService.autocompleteEmployees("jo", 10)).thenReturn(Collections.singletonList(
+                new EmployeeSuggestionDTO(1L, "John Smith", "john@test.com")));
+
+        mockMvc.perform(get("/api/employees/autocomplete").param("q", "jo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].email").value("john@test.com"));
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/lookup - Should return results in request order (USER)")
+    @WithMockUser(roles = "USER")
+    void lookupEmployees_ShouldReturnResults() throws Exception {
+        when(employeeService.lookupEmployees(Arrays.asList(1L, 99L))).thenReturn(Arrays.asList(
+                EmployeeLookupResultDTO.found(employeeDTO), EmployeeLookupResultDTO.missing(99L)));
+
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EmployeeLookupRequestDTO(Arrays.asList(1L, 99L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Found 1 of 2 employees"))
+                .andExpect(jsonPath("$.data[0].employee.fullName").value("John Smith"))
+                .andExpect(jsonPath("$.data[1].id").value(99))
+                .andExpect(jsonPath("$.data[1].found").value(false))
+                .andExpect(jsonPath("$.data[1].employee").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/lookup - Should return 400 for an empty id list")
+    @WithMockUser(roles = "USER")
+    void lookupEmployees_ShouldReturn400ForEmptyList() throws Exception {
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/delete - Should delete the listed employees (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void deleteEmployees_ShouldReturnResult() throws Exception {
+        when(employeeService.deleteEmployees(Arrays.asList(1L, 99L)))
+                .thenReturn(new EmployeeDeleteResultDTO(1, Collections.singletonList(99L)));
+
+        mockMvc.perform(post("/api/employees/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkEmployeeDeleteDTO(Arrays.asList(1L, 99L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Deleted 1 employees"))
+                .andExpect(jsonPath("$.data.notFound[0]").value(99));
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/delete - Should return 403 for USER")
+    @WithMockUser(roles = "USER")
+    void deleteEmployees_ShouldReturn403ForUser() throws Exception {
+        mockMvc.perform(post("/api/employees/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1]}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/reassign - Should move employees (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void reassignEmployees_ShouldReturnResult() throws Exception {
+        when(employeeService.reassignEmployees(any(EmployeeReassignDTO.class)))
+                .thenReturn(new EmployeeReassignResultDTO(12, null));
+
+        mockMvc.perform(post("/api/employees/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EmployeeReassignDTO(null, 1L, 2L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Moved 12 employees"))
+                .andExpect(jsonPath("$.data.moved").value(12));
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/reassign - Should return 400 without a target department")
+    @WithMockUser(roles = "ADMIN")
+    void reassignEmployees_ShouldReturn400WithoutTarget() throws Exception {
+        mockMvc.perform(post("/api/employees/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromDepartmentId\": 1}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/employees/{id} - Should apply a merge patch and return the new ETag (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void patchEmployee_ShouldReturnUpdatedEmployee() throws Exception {
+        employeeDTO.setUpdatedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+        employeeDTO.setSalary(new BigDecimal("90000"));
+        when(employeeService.patchEmployee(eq(1L), any(JsonNode.class), eq("\"employee-1-1\"")))
+                .thenReturn(employeeDTO);
+
+        mockMvc.perform(patch("/api/employees/1")
+                        .contentType("application/merge-patch+json")
+                        .header(HttpHeaders.IF_MATCH, "\"employee-1-1\"")
+                        .content("{\"salary\": 90000}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, EtagRegistry.employeeTag(employeeDTO)))
+                .andExpect(jsonPath("$.data.salary").value(90000));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/employees/{id} - Should return 412 when If-Match is stale")
+    @WithMockUser(roles = "ADMIN")
+    void patchEmployee_ShouldReturn412ForStaleEtag() throws Exception {
+        when(employeeService.patchEmployee(eq(1L), any(JsonNode.class), any()))
+                .thenThrow(new PreconditionFailedException("Employee 1 has changed since it was read"));
+
+        mockMvc.perform(patch("/api/employees/1")
+                        .contentType("application/merge-patch+json")
+                        .header(HttpHeaders.IF_MATCH, "\"employee-1-0\"")
+                        .content("{\"salary\": 90000}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/employees/{id} - Should return 403 for USER")
+    @WithMockUser(roles = "USER")
+    void patchEmployee_ShouldReturn403ForUser() throws Exception {
+        mockMvc.perform(patch("/api/employees/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"salary\": 90000}"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("GET /api/employees/{id} - Should return 404 for not found")
     @WithMockUser(roles = "ADMIN")
@@ -159,7 +387,7 @@ class EmployeeControllerTest {
     @DisplayName("PUT /api/employees/{id} - Should update employee (ADMIN)")
     @WithMockUser(roles = "ADMIN")
     void updateEmployee_ShouldUpdate() throws Exception {
-        when(employeeService.updateEmployee(eq(1L), any(EmployeeDTO.class))).thenReturn(employeeDTO);
+        when(employeeService.updateEmployee(eq(1L), any(EmployeeDTO.class), isNull())).thenReturn(employeeDTO);
 
         mockMvc.perform(put("/api/employees/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -168,6 +396,20 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.success").value(true));
     }
 
+    @Test
+    @DisplayName("PUT /api/employees/{id} - Should return 409 when a concurrent edit won")
+    @WithMockUser(roles = "ADMIN")
+    void updateEmployee_ShouldReturn409OnConcurrentModification() throws Exception {
+        when(employeeService.updateEmployee(eq(1L), any(EmployeeDTO.class), eq("\"employee-1-2\"")))
+                .thenThrow(new ObjectOptimisticLockingFailureException("Employee", 1L));
+
+        mockMvc.perform(put("/api/employees/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"employee-1-2\"")
+                        .content(objectMapper.writeValueAsString(employeeDTO)))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @DisplayName("DELETE /api/employees/{id} - Should delete employee (ADMIN)")
     @WithMockUser(roles = "ADMIN")
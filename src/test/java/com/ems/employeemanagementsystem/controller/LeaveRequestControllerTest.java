@@ -1,8 +1,12 @@
 package com.ems.employeemanagementsystem.controller;
 
+import com.ems.employeemanagementsystem.dto.BulkLeaveStatusUpdateDTO;
+import com.ems.employeemanagementsystem.dto.CursorSliceDTO;
 import com.ems.employeemanagementsystem.dto.LeaveRequestDTO;
+import com.ems.employeemanagementsystem.dto.LeaveStatusOutcomeDTO;
 import com.ems.employeemanagementsystem.dto.LeaveStatusUpdateDTO;
 import com.ems.employeemanagementsystem.entity.enums.LeaveStatus;
+import com.ems.employeemanagementsystem.exception.ConflictException;
 import com.ems.employeemanagementsystem.security.SecurityConfig;
 import com.ems.employeemanagementsystem.service.LeaveRequestService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -92,6 +96,37 @@ class LeaveRequestControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("PUT /api/leaves/status - Should bulk update status (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void updateLeaveStatuses_ShouldReturnOutcomes() throws Exception {
+        when(leaveRequestService.updateLeaveStatuses(Arrays.asList(1L, 2L), LeaveStatus.APPROVED))
+                .thenReturn(Arrays.asList(
+                        new LeaveStatusOutcomeDTO(1L, LeaveStatusOutcomeDTO.Outcome.UPDATED, LeaveStatus.APPROVED),
+                        new LeaveStatusOutcomeDTO(2L, LeaveStatusOutcomeDTO.Outcome.NOT_FOUND, null)));
+
+        mockMvc.perform(put("/api/leaves/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BulkLeaveStatusUpdateDTO(Arrays.asList(1L, 2L), LeaveStatus.APPROVED))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Updated 1 of 2 leave requests"))
+                .andExpect(jsonPath("$.data[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.data[1].outcome").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.data[1].status").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("PUT /api/leaves/status - Should return 403 for USER role")
+    @WithMockUser(roles = "USER")
+    void updateLeaveStatuses_ShouldReturn403ForUser() throws Exception {
+        mockMvc.perform(put("/api/leaves/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BulkLeaveStatusUpdateDTO(Arrays.asList(1L, 2L), LeaveStatus.APPROVED))))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("PUT /api/leaves/{id}/status - Should update status (ADMIN)")
     @WithMockUser(roles = "ADMIN")
@@ -118,6 +153,21 @@ class LeaveRequestControllerTest {
                 .andExpect(jsonPath("$.data.status").value("APPROVED"));
     }
 
+    @Test
+    @DisplayName("PUT /api/leaves/{id}/status - Should return 409 when already decided")
+    @WithMockUser(roles = "ADMIN")
+    void updateLeaveStatus_ShouldReturn409WhenAlreadyDecided() throws Exception {
+        when(leaveRequestService.updateLeaveStatus(eq(1L), any(LeaveStatusUpdateDTO.class)))
+                .thenThrow(new ConflictException("Leave request 1 is already APPROVED"));
+
+        mockMvc.perform(put("/api/leaves/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LeaveStatusUpdateDTO(LeaveStatus.REJECTED))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Leave request 1 is already APPROVED"));
+    }
+
     @Test
     @DisplayName("PUT /api/leaves/{id}/status - Should return 403 for USER")
     @WithMockUser(roles = "USER")
@@ -130,6 +180,35 @@ class LeaveRequestControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("GET /api/leaves/pending - Should return the approver inbox (ADMIN)")
+    @WithMockUser(roles = "ADMIN")
+    void getPendingLeaves_ShouldReturnInbox() throws Exception {
+        CursorSliceDTO<LeaveRequestDTO> inbox = CursorSliceDTO.<LeaveRequestDTO>builder()
+                .content(Collections.singletonList(leaveRequestDTO))
+                .size(20)
+                .hasNext(true)
+                .nextCursor("abc")
+                .build();
+        when(leaveRequestService.getPendingLeaves(2L, LocalDate.of(2024, 3, 1), null, null, 20)).thenReturn(inbox);
+
+        mockMvc.perform(get("/api/leaves/pending")
+                        .param("departmentId", "2")
+                        .param("from", "2024-03-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("abc"));
+    }
+
+    @Test
+    @DisplayName("GET /api/leaves/pending - Should return 403 for USER")
+    @WithMockUser(roles = "USER")
+    void getPendingLeaves_ShouldReturn403ForUser() throws Exception {
+        mockMvc.perform(get("/api/leaves/pending"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("GET /api/leaves/employee/{empId} - Should return employee leaves")
     @WithMockUser(roles = "USER")
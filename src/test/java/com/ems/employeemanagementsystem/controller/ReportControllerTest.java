@@ -0,0 +1,75 @@
+package com.ems.employeemanagementsystem.controller;
+
+import com.ems.employeemanagementsystem.exception.ServiceUnavailableException;
+import com.ems.employeemanagementsystem.security.SecurityConfig;
+import com.ems.employeemanagementsystem.service.EmployeeExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReportController.class)
+@Import(SecurityConfig.class)
+class ReportControllerTest {
+
+    private static final String CSV = "employee_id,full_name,email,department_id,department_name,salary,joining_date\n"
+            + "1,John Smith,john@example.com,1,Engineering,75000.00,2023-01-15\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeExportService exportService;
+
+    @Test
+    @DisplayName("GET /api/reports/employees - Should stream the export as a CSV attachment")
+    @WithMockUser(roles = "ADMIN")
+    void exportEmployees_ShouldStreamCsv() throws Exception {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        when(exportService.exportEmployees(1L)).thenReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/api/reports/employees").param("departmentId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        emitter.send(CSV, EmployeeExportService.TEXT_CSV);
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv\""))
+                .andExpect(content().string(CSV));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/employees - Should return 503 when the export pool is full")
+    @WithMockUser(roles = "ADMIN")
+    void exportEmployees_ShouldReturn503WhenSaturated() throws Exception {
+        when(exportService.exportEmployees(null))
+                .thenThrow(new ServiceUnavailableException("Too many exports are running, please retry shortly"));
+
+        mockMvc.perform(get("/api/reports/employees"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/employees - Should return 403 for USER role")
+    @WithMockUser(roles = "USER")
+    void exportEmployees_ShouldReturn403ForUser() throws Exception {
+        mockMvc.perform(get("/api/reports/employees"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,189 @@
+package com.ems.employeemanagementsystem.idempotency;
+
+import com.ems.employeemanagementsystem.entity.IdempotencyRecord;
+import com.ems.employeemanagementsystem.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyFilter filter;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyStore store = new IdempotencyStore(repository, transactionManager, 24, 60000, 100);
+        filter = new IdempotencyFilter(store, new ObjectMapper().findAndRegisterModules(), 5000);
+        lenient().when(repository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Should replay the recorded response for a retried key without running the request again")
+    void retry_ShouldReplayRecordedResponse() throws Exception {
+        MockHttpServletResponse first = perform("key-1", "{\"reason\":\"Vacation\"}", creatingChain());
+        MockHttpServletResponse retry = perform("key-1", "{\"reason\":\"Vacation\"}", creatingChain());
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(HttpHeaders.LOCATION)).isEqualTo("/api/leaves/1");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        verify(repository).insertInProgress(anyString(), anyString(), any(), any());
+        verify(repository).complete(anyString(), eq(201), any(), eq("/api/leaves/1"), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse a key reused with a different body")
+    void retry_ShouldRejectDifferentBody() throws Exception {
+        perform("key-1", "{\"reason\":\"Vacation\"}", creatingChain());
+        MockHttpServletResponse reused = perform("key-1", "{\"reason\":\"Conference\"}", creatingChain());
+
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not record a 5xx response, so the retry runs again")
+    void serverError_ShouldReleaseKey() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+
+        perform("key-1", "{}", failing);
+        perform("key-1", "{}", creatingChain());
+
+        assertThat(executions).hasValue(2);
+        verify(repository).deleteInProgress(anyString());
+    }
+
+    @Test
+    @DisplayName("Should run concurrent duplicates once and answer both with the same response")
+    void concurrentDuplicates_ShouldBeCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            creatingChain().doFilter(request, response);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> perform("key-1", "{}", slow));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<MockHttpServletResponse> duplicate = executor.submit(() -> perform("key-1", "{}", creatingChain()));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+            assertThat(duplicate.get(5, TimeUnit.SECONDS).getContentAsString())
+                    .isEqualTo(first.get().getContentAsString());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(executions).hasValue(1);
+        verify(repository, times(1)).insertInProgress(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should answer 409 with Retry-After while another instance runs the same key")
+    void inProgressElsewhere_ShouldReturn409() throws Exception {
+        when(repository.findById(anyString())).thenReturn(Optional.of(IdempotencyRecord.builder()
+                .key("k").requestHash("h").createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusMinutes(1)).build()));
+
+        MockHttpServletResponse response = perform("key-1", "{}", creatingChain());
+
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(executions).hasValue(0);
+        verify(repository, never()).insertInProgress(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should pass requests without a key straight through")
+    void withoutKey_ShouldNotTouchStore() throws Exception {
+        perform(null, "{}", creatingChain());
+        perform(null, "{}", creatingChain());
+
+        assertThat(executions).hasValue(2);
+        verifyNoInteractions(repository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should reject an over-long key")
+    void longKey_ShouldReturn400() throws Exception {
+        MockHttpServletResponse response = perform("k".repeat(256), "{}", creatingChain());
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(executions).hasValue(0);
+        verify(repository, never()).complete(anyString(), anyInt(), any(), any(), any(), any());
+    }
+
+    // Echoes the request body, as the controllers do with the created resource.
+    private FilterChain creatingChain() {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setHeader(HttpHeaders.LOCATION, "/api/leaves/1");
+            http.setContentType("application/json");
+            http.getWriter().write("{\"success\":true,\"data\":" + body + ",\"n\":" + executions.get() + "}");
+        };
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/leaves");
+        request.setRemoteUser("admin");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,165 @@
+package com.ems.employeemanagementsystem.messaging;
+
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeStreamHubTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ChangeStreamHub hub;
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer overflows while others keep receiving")
+    void broadcast_ShouldEvictSlowSubscriber() throws Exception {
+        hub = new ChangeStreamHub(objectMapper, 60000, 4, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        hub.subscribe(null, slow);
+        hub.subscribe(null, fast);
+        // The slow subscriber's drain is now stuck sending "connected".
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // The fast subscriber keeps up with every event; the slow one holds four and overflows on the fifth.
+            for (long id = 1; id <= 10; id++) {
+                hub.onEmployeeChanged(updated(id, 1L));
+                assertThat(fast.awaitData(1)).hasSize(1);
+                assertThat(slow.completed).isEqualTo(id > 4);
+            }
+
+            assertThat(hub.subscriberCount()).isEqualTo(1);
+            assertThat(fast.completed).isFalse();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not strand an event enqueued while a drain is clearing its flag")
+    void broadcast_ShouldDeliverEventEnqueuedWhileDrainFinishes() throws Exception {
+        AtomicBoolean armed = new AtomicBoolean();
+        hub = new ChangeStreamHub(objectMapper, 60000, 256, 2, () -> {
+            // The drain has seen an empty queue but still owns the flag, so this offer schedules nothing.
+            if (armed.compareAndSet(true, false)) {
+                hub.onEmployeeChanged(updated(2L, 1L));
+            }
+        });
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        hub.subscribe(null, emitter);
+        armed.set(true);
+
+        hub.onEmployeeChanged(updated(1L, 1L));
+
+        // The hook may fire at the end of the "connected" drain instead, so the order is not fixed.
+        List<String> data = emitter.awaitData(2);
+        assertThat(data).hasSize(2);
+        assertThat(data)
+                .anyMatch(event -> event.contains("\"id\":1,"))
+                .anyMatch(event -> event.contains("\"id\":2,"));
+    }
+
+    @Test
+    @DisplayName("Should send a bulk write as one message, filtered to each subscriber's department")
+    void onEmployeesChanged_ShouldSendOneMessagePerBatch() throws Exception {
+        hub = new ChangeStreamHub(objectMapper, 60000, 4, 2);
+        RecordingEmitter all = new RecordingEmitter(null);
+        RecordingEmitter sales = new RecordingEmitter(null);
+        RecordingEmitter other = new RecordingEmitter(null);
+        hub.subscribe(null, all);
+        hub.subscribe(2L, sales);
+        hub.subscribe(3L, other);
+
+        List<EmployeeChangedEvent> changes = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            changes.add(updated(id, id == 5 ? 2L : 1L));
+        }
+        hub.onEmployeesChanged(new EmployeeBatchChangedEvent(changes));
+        hub.onEmployeeChanged(updated(11L, 2L));
+
+        List<String> allData = all.awaitData(2);
+        assertThat(allData.get(0)).startsWith("[").contains("\"id\":1,", "\"id\":10,");
+        assertThat(sales.awaitData(2).get(0)).startsWith("[").contains("\"id\":5,").doesNotContain("\"id\":1,");
+        assertThat(other.events).isEmpty();
+        assertThat(hub.subscriberCount()).isEqualTo(3);
+    }
+
+    private static EmployeeChangedEvent updated(Long id, Long departmentId) {
+        EmployeeDTO employee = EmployeeDTO.builder()
+                .id(id).fullName("Employee " + id).departmentId(departmentId).build();
+        return new EmployeeChangedEvent(ChangeType.UPDATED, id, employee, employee);
+    }
+
+    // Records what the hub sends; with a release latch, the first send blocks until it is counted down.
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String event = builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining());
+            if (!event.startsWith(":")) {
+                events.add(event);
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        // The data of the next count events, waiting up to five seconds for each.
+        List<String> awaitData(int count) throws InterruptedException {
+            List<String> data = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String event = events.poll(5, TimeUnit.SECONDS);
+                if (event == null) {
+                    break;
+                }
+                data.add(event.substring(event.indexOf("data:") + 5).trim());
+            }
+            return data;
+        }
+    }
+}
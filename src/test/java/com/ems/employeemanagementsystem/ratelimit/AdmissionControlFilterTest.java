@@ -0,0 +1,140 @@
+package com.ems.employeemanagementsystem.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final FilterChain chain = (request, response) -> {
+        executions.incrementAndGet();
+        ((HttpServletResponse) response).setStatus(200);
+    };
+
+    private ConcurrencyLimiter concurrencyLimiter;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // A token every ~17 minutes, so only the burst is available during a test.
+        RateLimiter rateLimiter = new RateLimiter(true, 0.001, 4, 0.001, 2, 0.001, 2, 0.001, 1);
+        concurrencyLimiter = new ConcurrencyLimiter(meterRegistry, 1, 10, new String[]{"/api/analytics/**"});
+        filter = new AdmissionControlFilter(rateLimiter, concurrencyLimiter,
+                new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a caller's burst is used up")
+    void overLimit_ShouldReturn429() throws Exception {
+        signIn("user", "ROLE_USER");
+
+        assertThat(perform("GET", "/api/employees").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/api/employees").getStatus()).isEqualTo(200);
+        MockHttpServletResponse limited = perform("GET", "/api/employees");
+
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(limited.getHeader(HttpHeaders.RETRY_AFTER))).isGreaterThan(900);
+        assertThat(limited.getContentAsString()).contains("Rate limit exceeded");
+        assertThat(executions).hasValue(2);
+        assertThat(meterRegistry.get("admission.rejected").tag("reason", "rate_limited")
+                .tag("endpoint", "read").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per caller, endpoint class and role")
+    void buckets_ShouldBeKeyedByPrincipalClassAndRole() throws Exception {
+        signIn("user", "ROLE_USER");
+        assertThat(perform("POST", "/api/leaves").getStatus()).isEqualTo(200);
+        assertThat(perform("POST", "/api/leaves").getStatus()).isEqualTo(429);
+        assertThat(perform("GET", "/api/leaves/employee/1").getStatus()).isEqualTo(200);
+
+        signIn("other", "ROLE_USER");
+        assertThat(perform("POST", "/api/leaves").getStatus()).isEqualTo(200);
+
+        signIn("admin", "ROLE_ADMIN");
+        for (int i = 0; i < 4; i++) {
+            assertThat(perform("GET", "/api/employees").getStatus()).isEqualTo(200);
+        }
+        assertThat(perform("GET", "/api/employees").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should shed requests over the concurrency cap with 503 but let exempt paths through")
+    void overCapacity_ShouldReturn503() throws Exception {
+        signIn("admin", "ROLE_ADMIN");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        "batch", "n/a", AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+                filter.doFilter(request("GET", "/api/employees"), new MockHttpServletResponse(), slow);
+                return null;
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse shed = perform("GET", "/api/employees");
+            assertThat(shed.getStatus()).isEqualTo(503);
+            assertThat(shed.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+            assertThat(perform("GET", "/api/analytics/payroll").getStatus()).isEqualTo(200);
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(concurrencyLimiter.inFlight()).isZero();
+        assertThat(perform("GET", "/api/employees").getStatus()).isEqualTo(200);
+    }
+
+    private void signIn(String name, String authority) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                name, "n/a", AuthorityUtils.createAuthorityList(authority)));
+    }
+
+    private MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private MockHttpServletResponse perform(String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, uri), response, chain);
+        return response;
+    }
+}
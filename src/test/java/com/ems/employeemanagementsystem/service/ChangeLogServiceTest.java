@@ -0,0 +1,160 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.dto.ChangeEventDTO;
+import com.ems.employeemanagementsystem.dto.ChangeFeedDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.entity.ChangeLogEntry;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.exception.BadRequestException;
+import com.ems.employeemanagementsystem.exception.GoneException;
+import com.ems.employeemanagementsystem.repository.ChangeLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeLogServiceTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private ChangeLogService changeLogService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(changeLogService, "maxBatchSize", 1000);
+        ReflectionTestUtils.setField(changeLogService, "gapGraceSeconds", 30L);
+        ReflectionTestUtils.setField(changeLogService, "retentionDays", 7L);
+    }
+
+    @Test
+    @DisplayName("Should record an employee change with its department and JSON payload")
+    void onEmployeeChanged_ShouldRecordEntry() {
+        EmployeeDTO employee = EmployeeDTO.builder().id(3L).fullName("John Smith").departmentId(2L).build();
+
+        changeLogService.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.UPDATED, 3L, employee, employee));
+
+        ArgumentCaptor<ChangeLogEntry> captor = ArgumentCaptor.forClass(ChangeLogEntry.class);
+        verify(changeLogRepository).save(captor.capture());
+        assertThat(captor.getValue().getEntity()).isEqualTo("employee");
+        assertThat(captor.getValue().getEntityId()).isEqualTo(3L);
+        assertThat(captor.getValue().getDepartmentId()).isEqualTo(2L);
+        assertThat(captor.getValue().getPayload()).contains("\"fullName\":\"John Smith\"");
+    }
+
+    @Test
+    @DisplayName("Should record a batch of employee changes with one JDBC batch instead of one save per change")
+    @SuppressWarnings("unchecked")
+    void onEmployeesChanged_ShouldInsertInBatches() throws Exception {
+        EmployeeDTO first = EmployeeDTO.builder().id(3L).fullName("John Smith").departmentId(2L).build();
+        EmployeeDTO second = EmployeeDTO.builder().id(4L).fullName("Jane Doe").departmentId(2L).build();
+
+        changeLogService.onEmployeesChanged(new EmployeeBatchChangedEvent(Arrays.asList(
+                new EmployeeChangedEvent(ChangeType.DELETED, 3L, first, null),
+                new EmployeeChangedEvent(ChangeType.DELETED, 4L, second, null))));
+
+        ArgumentCaptor<List<ChangeLogEntry>> entries = ArgumentCaptor.forClass((Class) List.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<ChangeLogEntry>> setter =
+                ArgumentCaptor.forClass((Class) ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO change_log"), entries.capture(), eq(1000),
+                setter.capture());
+        verify(changeLogRepository, never()).save(any());
+        assertThat(entries.getValue()).extracting(ChangeLogEntry::getEntityId).containsExactly(3L, 4L);
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement, entries.getValue().get(0));
+        verify(statement).setString(1, "employee");
+        verify(statement).setLong(2, 3L);
+        verify(statement).setString(3, "DELETED");
+        verify(statement).setString(5, null);
+    }
+
+    @Test
+    @DisplayName("Should stop before a recent sequence gap that an open transaction may still fill")
+    void getChanges_ShouldStopAtRecentGap() {
+        LocalDateTime now = LocalDateTime.now();
+        when(changeLogRepository.findMinSequence()).thenReturn(1L);
+        when(changeLogRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(4L), any()))
+                .thenReturn(Arrays.asList(entry(5L, now.minusMinutes(5)), entry(7L, now)));
+
+        ChangeFeedDTO feed = changeLogService.getChanges("4", 100);
+
+        assertThat(feed.getChanges()).extracting(ChangeEventDTO::getSequence).containsExactly(5L);
+        assertThat(feed.getNextToken()).isEqualTo("5");
+        assertThat(feed.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should skip an old gap left by a rolled back write")
+    void getChanges_ShouldSkipSettledGap() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(5);
+        when(changeLogRepository.findMinSequence()).thenReturn(1L);
+        when(changeLogRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(4L), any()))
+                .thenReturn(Arrays.asList(entry(5L, old), entry(7L, old)));
+
+        ChangeFeedDTO feed = changeLogService.getChanges("4", 100);
+
+        assertThat(feed.getChanges()).extracting(ChangeEventDTO::getSequence).containsExactly(5L, 7L);
+        assertThat(feed.getNextToken()).isEqualTo("7");
+        assertThat(feed.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report 410 when the token is older than the retained history")
+    void getChanges_ShouldThrowGoneForPrunedToken() {
+        when(changeLogRepository.findMinSequence()).thenReturn(10L);
+
+        assertThatThrownBy(() -> changeLogService.getChanges("2", 100))
+                .isInstanceOf(GoneException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed token")
+    void getChanges_ShouldRejectInvalidToken() {
+        assertThatThrownBy(() -> changeLogService.getChanges("abc", 100))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(changeLogRepository);
+    }
+
+    private static ChangeLogEntry entry(Long sequence, LocalDateTime changedAt) {
+        return ChangeLogEntry.builder()
+                .sequence(sequence)
+                .entity("employee")
+                .entityId(sequence)
+                .changeType(ChangeType.UPDATED)
+                .payload("{\"id\":" + sequence + "}")
+                .changedAt(changedAt)
+                .build();
+    }
+}
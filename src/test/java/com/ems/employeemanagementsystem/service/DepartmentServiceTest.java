@@ -1,19 +1,25 @@
 package com.ems.employeemanagementsystem.service;
 
+import com.ems.employeemanagementsystem.cache.ReadCoalescer;
 import com.ems.employeemanagementsystem.dto.DepartmentDTO;
 import com.ems.employeemanagementsystem.dto.EmployeeDTO;
 import com.ems.employeemanagementsystem.entity.Department;
+import com.ems.employeemanagementsystem.event.DepartmentChangedEvent;
 import com.ems.employeemanagementsystem.entity.Employee;
 import com.ems.employeemanagementsystem.exception.DuplicateResourceException;
 import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.ems.employeemanagementsystem.repository.DepartmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -34,6 +40,16 @@ class DepartmentServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DepartmentStatsService statsService;
+
+    @Spy
+    private ReadCoalescer readCoalescer =
+            new ReadCoalescer(new SimpleMeterRegistry(), mock(PlatformTransactionManager.class), 5000);
+
     @InjectMocks
     private DepartmentService departmentService;
 
@@ -114,6 +130,7 @@ class DepartmentServiceTest {
 
         assertThat(result.getDepartmentName()).isEqualTo("Engineering");
         verify(departmentRepository, times(1)).save(any(Department.class));
+        verify(eventPublisher).publishEvent(any(DepartmentChangedEvent.class));
     }
 
     @Test
@@ -167,4 +184,24 @@ class DepartmentServiceTest {
 
         assertThat(result.getId()).isEqualTo(1L);
     }
+
+    @Test
+    @DisplayName("Should delete an empty department with its stats and publish the change")
+    void deleteEmptyDepartment_ShouldRemoveStatsAndPublish() {
+        departmentService.deleteEmptyDepartment(1L);
+
+        verify(statsService).removeFor(1L);
+        verify(departmentRepository).deleteRowById(1L);
+        verify(departmentRepository, never()).delete(any(Department.class));
+        verify(eventPublisher).publishEvent(any(DepartmentChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should throw not found when locking a missing department")
+    void lockDepartment_ShouldThrowNotFound() {
+        when(departmentRepository.lockId(99L)).thenReturn(Collections.emptyList());
+
+        assertThatThrownBy(() -> departmentService.lockDepartment(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
 }
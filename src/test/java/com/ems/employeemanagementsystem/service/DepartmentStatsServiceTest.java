@@ -0,0 +1,211 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.cache.EtagRegistry;
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.entity.DepartmentStats;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.repository.DepartmentRepository;
+import com.ems.employeemanagementsystem.repository.DepartmentStatsRepository;
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentStatsServiceTest {
+
+    @Mock
+    private DepartmentStatsRepository statsRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private EtagRegistry etagRegistry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    @InjectMocks
+    private DepartmentStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.setTransactionManager(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should move headcount and salary between departments when an employee changes department")
+    void onEmployeeChanged_ShouldApplyMoveToBothDepartments() {
+        when(statsRepository.addToDepartment(anyLong(), anyLong(), any())).thenReturn(1);
+        EmployeeDTO before = EmployeeDTO.builder().id(1L).departmentId(1L).salary(new BigDecimal("5000.00")).build();
+        EmployeeDTO after = EmployeeDTO.builder().id(1L).departmentId(2L).salary(new BigDecimal("6000.50")).build();
+
+        statsService.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.CREATED, 1L, null, before));
+        statsService.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.UPDATED, 1L, before, after));
+
+        verify(statsRepository).addToDepartment(1L, -1, new BigDecimal("-5000.00"));
+        verify(statsRepository).addToDepartment(2L, 1, new BigDecimal("6000.50"));
+        assertThat(statsService.headcount(1L)).isZero();
+        assertThat(statsService.salaryTotal(1L)).isEqualByComparingTo("0");
+        assertThat(statsService.headcount(2L)).isEqualTo(1);
+        assertThat(statsService.salaryTotal(2L)).isEqualByComparingTo("6000.50");
+        verify(etagRegistry, times(2)).departmentStatsChanged();
+    }
+
+    @Test
+    @DisplayName("Should write the summed delta of a transaction once, just before it commits")
+    void onEmployeeChanged_ShouldCoalesceDeltasPerTransaction() {
+        when(statsRepository.addToDepartment(anyLong(), anyLong(), any())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (long id = 1; id <= 3; id++) {
+                EmployeeDTO deleted = EmployeeDTO.builder().id(id).departmentId(1L)
+                        .salary(new BigDecimal("1000.00")).build();
+                statsService.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.DELETED, id, deleted, null));
+            }
+            verifyNoInteractions(statsRepository);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(statsRepository).addToDepartment(1L, -3, new BigDecimal("-3000.00"));
+        assertThat(statsService.headcount(1L)).isEqualTo(-3);
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip the stats update when neither department nor salary changes")
+    void onEmployeeChanged_ShouldSkipUnchangedTotals() {
+        EmployeeDTO before = EmployeeDTO.builder().id(1L).departmentId(1L).fullName("John")
+                .salary(new BigDecimal("5000")).build();
+        EmployeeDTO after = EmployeeDTO.builder().id(1L).departmentId(1L).fullName("Johnny")
+                .salary(new BigDecimal("5000.00")).build();
+
+        statsService.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.UPDATED, 1L, before, after));
+
+        verifyNoInteractions(statsRepository, etagRegistry);
+    }
+
+    @Test
+    @DisplayName("Should correct drifted and missing rows one department at a time and reset the counters")
+    void reconcile_ShouldCorrectDrift() {
+        DepartmentStats drifted = new DepartmentStats(1L, 7, new BigDecimal("100.00"));
+        DepartmentStats consistent = new DepartmentStats(2L, 0, BigDecimal.ZERO);
+        when(departmentRepository.findAllIds()).thenReturn(Arrays.asList(1L, 2L, 3L));
+        when(statsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(drifted));
+        when(statsRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(consistent));
+        when(statsRepository.findByIdForUpdate(3L)).thenReturn(Optional.empty());
+        when(departmentRepository.existsById(3L)).thenReturn(true);
+        when(employeeRepository.countAndSumSalaryInDepartment(1L)).thenReturn(count(2L, "9000.00"));
+        when(employeeRepository.countAndSumSalaryInDepartment(2L)).thenReturn(count(0L, "0"));
+        when(employeeRepository.countAndSumSalaryInDepartment(3L)).thenReturn(count(1L, "4000.00"));
+
+        statsService.reconcile();
+
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(drifted.getHeadcount()).isEqualTo(2);
+        assertThat(drifted.getSalaryTotal()).isEqualByComparingTo("9000.00");
+        ArgumentCaptor<DepartmentStats> captor = ArgumentCaptor.forClass(DepartmentStats.class);
+        verify(statsRepository).save(captor.capture());
+        assertThat(captor.getValue().getDepartmentId()).isEqualTo(3L);
+        assertThat(captor.getValue().getHeadcount()).isEqualTo(1);
+        assertThat(statsService.headcount(1L)).isEqualTo(2);
+        assertThat(statsService.headcount(2L)).isZero();
+        assertThat(statsService.salaryTotal(3L)).isEqualByComparingTo("4000.00");
+    }
+
+    @Test
+    @DisplayName("Should skip a department deleted while reconciliation runs")
+    void reconcile_ShouldSkipDeletedDepartment() {
+        when(departmentRepository.findAllIds()).thenReturn(Collections.singletonList(1L));
+        when(statsRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(departmentRepository.existsById(1L)).thenReturn(false);
+
+        statsService.reconcile();
+
+        verify(statsRepository, never()).save(any());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should add deltas written after a reconciliation on top of the recount")
+    void onEmployeeChanged_ShouldApplyOnTopOfReconciledCounters() {
+        when(departmentRepository.findAllIds()).thenReturn(Collections.singletonList(1L));
+        when(statsRepository.findByIdForUpdate(1L))
+                .thenReturn(Optional.of(new DepartmentStats(1L, 1, new BigDecimal("5000.00"))));
+        when(employeeRepository.countAndSumSalaryInDepartment(1L)).thenReturn(count(1L, "5000.00"));
+        statsService.reconcile();
+
+        when(statsRepository.addToDepartment(eq(1L), anyLong(), any())).thenReturn(1);
+        statsService.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.CREATED, 2L, null,
+                EmployeeDTO.builder().id(2L).departmentId(1L).salary(new BigDecimal("1000.00")).build()));
+
+        assertThat(statsService.headcount(1L)).isEqualTo(2);
+        assertThat(statsService.salaryTotal(1L)).isEqualByComparingTo("6000.00");
+    }
+
+    @Test
+    @DisplayName("Should drop a delta that committed before a reconciliation already counted it")
+    void applyDeltas_ShouldNotDoubleCountAcrossReconciliation() {
+        when(statsRepository.addToDepartment(eq(1L), anyLong(), any())).thenReturn(1);
+        when(departmentRepository.findAllIds()).thenReturn(Collections.singletonList(1L));
+        when(statsRepository.findByIdForUpdate(1L))
+                .thenReturn(Optional.of(new DepartmentStats(1L, 1, new BigDecimal("1000.00"))));
+        when(employeeRepository.countAndSumSalaryInDepartment(1L)).thenReturn(count(1L, "1000.00"));
+        Map<Long, long[]> delta = new HashMap<>();
+        delta.put(1L, new long[]{1, 100000});
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            statsService.applyDeltas(delta);
+            // The write has committed in the database and the recount includes it before its afterCommit runs.
+            statsService.reconcile();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(statsService.headcount(1L)).isEqualTo(1);
+        assertThat(statsService.salaryTotal(1L)).isEqualByComparingTo("1000.00");
+    }
+
+    private static List<Object[]> count(long headcount, String salaryTotal) {
+        return Collections.singletonList(new Object[]{headcount, new BigDecimal(salaryTotal)});
+    }
+}
@@ -0,0 +1,79 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailBloomFilterTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailBloomFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emailFilter = new EmailBloomFilter(employeeRepository, meterRegistry, 10_000, 0.01, 2);
+    }
+
+    @Test
+    @DisplayName("Should answer maybe for every email until loaded")
+    void mightContain_ShouldBeConservativeBeforeLoad() {
+        assertThat(emailFilter.mightContain("nobody@test.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should contain loaded and written emails, ignoring case")
+    void mightContain_ShouldContainLoadedEmails() {
+        when(employeeRepository.findSearchFieldsAfter(eq(0L), any())).thenReturn(Arrays.asList(
+                new Object[]{1L, "John Smith", "john@test.com"},
+                new Object[]{2L, "Jane Doe", "jane@test.com"}));
+        when(employeeRepository.findSearchFieldsAfter(eq(2L), any())).thenReturn(Collections.emptyList());
+        emailFilter.load();
+        emailFilter.put("new@test.com");
+
+        assertThat(emailFilter.mightContain("john@test.com")).isTrue();
+        assertThat(emailFilter.mightContain(" Jane@Test.com")).isTrue();
+        assertThat(emailFilter.mightContain("new@test.com")).isTrue();
+        assertThat(emailFilter.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should rule out absent emails at about the configured false positive rate")
+    void mightContain_ShouldKeepFalsePositiveRateLow() {
+        when(employeeRepository.findSearchFieldsAfter(eq(0L), any())).thenReturn(Collections.emptyList());
+        emailFilter.load();
+        for (int i = 0; i < 10_000; i++) {
+            emailFilter.put("employee" + i + "@test.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (emailFilter.mightContain("someone" + i + "@test.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(emailFilter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+        assertThat(meterRegistry.get("employee.email.filter.checks").tag("result", "absent").counter().count())
+                .isEqualTo(10_000 - falsePositives);
+        assertThat(meterRegistry.get("employee.email.filter.memory").gauge().value()).isGreaterThan(0);
+    }
+}
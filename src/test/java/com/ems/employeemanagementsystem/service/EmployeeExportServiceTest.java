@@ -0,0 +1,164 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.ems.employeemanagementsystem.exception.ServiceUnavailableException;
+import com.ems.employeemanagementsystem.repository.DepartmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeExportServiceTest {
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private EmployeeExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new EmployeeExportService(departmentRepository, dataSource, new SimpleMeterRegistry(),
+                1, 1, 1000, 60000);
+        ReflectionTestUtils.setField(exportService, "jdbcTemplate", jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should write a header and one escaped CSV line per employee")
+    void writeEmployees_ShouldStreamCsv() throws Exception {
+        ResultSet first = row(1L, "John Smith", "john@example.com", 10L, "Engineering",
+                new BigDecimal("75000.00"), LocalDate.of(2023, 1, 15));
+        ResultSet second = row(2L, "O'Brien, \"Pat\"", "pat@example.com", 10L, "Engineering", null, null);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(first);
+            handler.processRow(second);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+        CapturingEmitter emitter = new CapturingEmitter();
+
+        exportService.writeEmployees(null, emitter);
+
+        assertThat(emitter.body.toString()).isEqualTo(EmployeeExportService.HEADER
+                + "1,John Smith,john@example.com,10,Engineering,75000.00,2023-01-15\n"
+                + "2,\"O'Brien, \"\"Pat\"\"\",pat@example.com,10,Engineering,,\n");
+        assertThat(emitter.completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should filter by department when one is given")
+    void writeEmployees_ShouldBindDepartment() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        doAnswer(invocation -> {
+            PreparedStatementSetter setter = invocation.getArgument(1);
+            setter.setValues(statement);
+            return null;
+        }).when(jdbcTemplate).query(contains("WHERE e.department_id = ?"), any(PreparedStatementSetter.class),
+                any(RowCallbackHandler.class));
+        CapturingEmitter emitter = new CapturingEmitter();
+
+        exportService.writeEmployees(10L, emitter);
+
+        verify(statement).setLong(1, 10L);
+        assertThat(emitter.body.toString()).isEqualTo(EmployeeExportService.HEADER);
+    }
+
+    @Test
+    @DisplayName("Should throw when exporting an unknown department")
+    void exportEmployees_ShouldThrowWhenDepartmentNotFound() {
+        when(departmentRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> exportService.exportEmployees(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should refuse exports beyond the running thread and queue with 503")
+    void exportEmployees_ShouldRejectWhenSaturated() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+
+        try {
+            exportService.exportEmployees(null);
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            exportService.exportEmployees(null);
+
+            assertThatThrownBy(() -> exportService.exportEmployees(null))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static ResultSet row(Long id, String name, String email, Long departmentId, String departmentName,
+                                 BigDecimal salary, LocalDate joiningDate) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("employee_id")).thenReturn(id);
+        when(rs.getString("full_name")).thenReturn(name);
+        when(rs.getString("email")).thenReturn(email);
+        when(rs.getLong("department_id")).thenReturn(departmentId);
+        when(rs.getString("department_name")).thenReturn(departmentName);
+        when(rs.getBigDecimal("salary")).thenReturn(salary);
+        when(rs.getDate("joining_date")).thenReturn(joiningDate != null ? Date.valueOf(joiningDate) : null);
+        return rs;
+    }
+
+    private static class CapturingEmitter extends ResponseBodyEmitter {
+
+        private final StringBuilder body = new StringBuilder();
+        private boolean completed;
+
+        @Override
+        public void send(Object object, MediaType mediaType) {
+            body.append(object);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
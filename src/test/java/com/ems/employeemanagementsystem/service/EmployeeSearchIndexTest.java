@@ -0,0 +1,97 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSearchIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new EmployeeSearchIndex(employeeRepository, 2, 50);
+        when(employeeRepository.findSearchFieldsAfter(eq(0L), any())).thenReturn(Arrays.asList(
+                new Object[]{1L, "John Smith", "john.smith@test.com"},
+                new Object[]{2L, "Joanna Smithers", "joanna.s@test.com"}));
+        when(employeeRepository.findSearchFieldsAfter(eq(2L), any())).thenReturn(Arrays.asList(
+                new Object[]{3L, "Marie Jöhnson", "marie@test.com"},
+                new Object[]{4L, "Bob Stone", "bstone@test.com"}));
+        when(employeeRepository.findSearchFieldsAfter(eq(4L), any())).thenReturn(Collections.emptyList());
+        searchIndex.load();
+    }
+
+    @Test
+    @DisplayName("Should match all terms by word prefix and rank whole words first")
+    void search_ShouldRankPrefixMatches() {
+        assertThat(searchIndex.search("jo smith", 10))
+                .extracting(EmployeeSearchIndex.Hit::getId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should match substrings ignoring case and accents")
+    void search_ShouldMatchSubstrings() {
+        assertThat(searchIndex.search("OHNS", 10))
+                .extracting(EmployeeSearchIndex.Hit::getId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should match the local part of the email")
+    void search_ShouldMatchEmail() {
+        assertThat(searchIndex.search("bst", 10))
+                .extracting(EmployeeSearchIndex.Hit::getFullName)
+                .containsExactly("Bob Stone");
+    }
+
+    @Test
+    @DisplayName("Should follow committed updates and deletes")
+    void onEmployeeChanged_ShouldUpdateIndex() {
+        EmployeeDTO renamed = EmployeeDTO.builder().id(4L).fullName("Robert Stone").email("bstone@test.com").build();
+        searchIndex.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.UPDATED, 4L, null, renamed));
+        searchIndex.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.DELETED, 1L, null, null));
+
+        assertThat(searchIndex.search("rob", 10)).extracting(EmployeeSearchIndex.Hit::getId).containsExactly(4L);
+        assertThat(searchIndex.search("bob", 10)).isEmpty();
+        assertThat(searchIndex.search("smith", 10)).extracting(EmployeeSearchIndex.Hit::getId).containsExactly(2L);
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should drop cached short-prefix hits when a matching employee changes")
+    void search_ShouldInvalidateShortPrefixCache() {
+        assertThat(searchIndex.search("r", 10)).isEmpty();
+
+        EmployeeDTO renamed = EmployeeDTO.builder().id(4L).fullName("Robert Stone").email("bstone@test.com").build();
+        searchIndex.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.UPDATED, 4L, null, renamed));
+
+        assertThat(searchIndex.search("r", 10)).extracting(EmployeeSearchIndex.Hit::getId).containsExactly(4L);
+        assertThat(searchIndex.search("b", 10)).extracting(EmployeeSearchIndex.Hit::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should keep only the best hits up to the limit")
+    void search_ShouldApplyLimit() {
+        assertThat(searchIndex.search("test", 2)).hasSize(2);
+    }
+}
@@ -1,28 +1,64 @@
 package com.ems.employeemanagementsystem.service;
 
+import com.ems.employeemanagementsystem.cache.EtagRegistry;
+import com.ems.employeemanagementsystem.cache.ReadCoalescer;
 import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDeleteResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeLookupResultDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeReassignDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeReassignResultDTO;
+import com.ems.employeemanagementsystem.dto.NotificationDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeSuggestionDTO;
+import com.ems.employeemanagementsystem.dto.SliceDTO;
 import com.ems.employeemanagementsystem.entity.Department;
 import com.ems.employeemanagementsystem.entity.Employee;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.EmployeeBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.exception.BadRequestException;
+import com.ems.employeemanagementsystem.exception.ConflictException;
 import com.ems.employeemanagementsystem.exception.DuplicateResourceException;
+import com.ems.employeemanagementsystem.exception.PreconditionFailedException;
 import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.ems.employeemanagementsystem.messaging.NotificationPublisher;
 import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import com.ems.employeemanagementsystem.repository.LeaveRequestRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -42,6 +78,31 @@ class EmployeeServiceTest {
     @Mock
     private NotificationPublisher notificationPublisher;
 
+    @Mock
+    private EmployeeCountCache employeeCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmployeeSearchIndex searchIndex;
+
+    @Mock
+    private EmailBloomFilter emailFilter;
+
+    @Mock
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private ReadCoalescer readCoalescer =
+            new ReadCoalescer(new SimpleMeterRegistry(), mock(PlatformTransactionManager.class), 5000);
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -51,6 +112,13 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(employeeService, "maxPageSize", 100);
+        ReflectionTestUtils.setField(employeeService, "maxLookupBatchSize", 500);
+        ReflectionTestUtils.setField(employeeService, "maxSearchResults", 50);
+        ReflectionTestUtils.setField(employeeService, "maxDeleteBatchSize", 1000);
+        ReflectionTestUtils.setField(employeeService, "maxReassignBatchSize", 1000);
+        lenient().when(emailFilter.mightContain(any())).thenReturn(true);
+
         department = Department.builder()
                 .id(1L)
                 .departmentName("Engineering")
@@ -112,6 +180,97 @@ class EmployeeServiceTest {
         assertThat(result.getContent()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("Should return a slice without counting when no total is requested")
+    void getEmployeeSlice_ShouldNotCount() {
+        when(employeeRepository.findSliceBy(any(Pageable.class))).thenReturn(
+                new SliceImpl<>(Collections.singletonList(employee), PageRequest.of(0, 20), true));
+
+        SliceDTO<EmployeeDTO> result = employeeService.getEmployeeSlice(0, 20, "name", "asc", null, false);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getApproximateTotal()).isNull();
+        verify(employeeRepository, never()).count();
+        verifyNoInteractions(employeeCountCache);
+    }
+
+    @Test
+    @DisplayName("Should cap the slice size and include the cached total on request")
+    void getEmployeeSlice_ShouldCapSizeAndIncludeTotal() {
+        when(employeeRepository.findSliceByDepartmentId(eq(1L), any(Pageable.class))).thenAnswer(invocation ->
+                new SliceImpl<>(Collections.singletonList(employee), invocation.getArgument(1), false));
+        when(employeeCountCache.approximateCount(1L)).thenReturn(42L);
+
+        SliceDTO<EmployeeDTO> result = employeeService.getEmployeeSlice(0, 5000, "name", "asc", 1L, true);
+
+        assertThat(result.getSize()).isEqualTo(100);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getApproximateTotal()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should look up employees in request order and report missing ids inline")
+    void lookupEmployees_ShouldPreserveOrderAndReportMissing() {
+        when(employeeRepository.findAllWithDepartmentByIdIn(any())).thenReturn(Collections.singletonList(employee));
+
+        List<EmployeeLookupResultDTO> result = employeeService.lookupEmployees(Arrays.asList(99L, 1L));
+
+        assertThat(result).extracting(EmployeeLookupResultDTO::getId).containsExactly(99L, 1L);
+        assertThat(result.get(0).isFound()).isFalse();
+        assertThat(result.get(1).getEmployee().getFullName()).isEqualTo("John Smith");
+        verify(employeeRepository, times(1)).findAllWithDepartmentByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should reject lookups above the batch limit")
+    void lookupEmployees_ShouldRejectOversizedBatch() {
+        ReflectionTestUtils.setField(employeeService, "maxLookupBatchSize", 1);
+
+        assertThatThrownBy(() -> employeeService.lookupEmployees(Arrays.asList(1L, 2L)))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should load search hits in one query and keep the index ranking")
+    void searchEmployees_ShouldKeepRanking() {
+        Employee second = Employee.builder()
+                .id(2L).fullName("Joanna Smithers").email("joanna@test.com")
+                .department(department).salary(new BigDecimal("70000")).build();
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("jo smi", 20)).thenReturn(Arrays.asList(
+                new EmployeeSearchIndex.Hit(2L, "Joanna Smithers", "joanna@test.com", 12),
+                new EmployeeSearchIndex.Hit(1L, "John Smith", "john@test.com", 8)));
+        when(employeeRepository.findAllWithDepartmentByIdIn(Arrays.asList(2L, 1L)))
+                .thenReturn(Arrays.asList(employee, second));
+
+        List<EmployeeDTO> result = employeeService.searchEmployees("jo smi", 20);
+
+        assertThat(result).extracting(EmployeeDTO::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should fall back to a database query while the search index loads")
+    void autocompleteEmployees_ShouldFallBackWhileIndexLoads() {
+        when(searchIndex.isReady()).thenReturn(false);
+        when(employeeRepository.findByNameOrEmailLike(eq("%john%"), any()))
+                .thenReturn(Collections.singletonList(employee));
+
+        List<EmployeeSuggestionDTO> result = employeeService.autocompleteEmployees(" John ", 10);
+
+        assertThat(result).extracting(EmployeeSuggestionDTO::getFullName).containsExactly("John Smith");
+        verify(searchIndex, never()).search(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject a blank search query")
+    void searchEmployees_ShouldRejectBlankQuery() {
+        assertThatThrownBy(() -> employeeService.searchEmployees("  ", 20))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(searchIndex);
+    }
+
     @Test
     @DisplayName("Should return employee by ID")
     void getEmployeeById_ShouldReturnEmployee() {
@@ -138,13 +297,14 @@ class EmployeeServiceTest {
     void createEmployee_ShouldCreateSuccessfully() {
         when(employeeRepository.existsByEmail("john@test.com")).thenReturn(false);
         when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
 
         EmployeeDTO result = employeeService.createEmployee(employeeDTO);
 
         assertThat(result.getFullName()).isEqualTo("John Smith");
         assertThat(result.getEmail()).isEqualTo("john@test.com");
         verify(notificationPublisher, times(1)).publishEmployeeNotification(any());
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
     }
 
     @Test
@@ -155,7 +315,52 @@ class EmployeeServiceTest {
         assertThatThrownBy(() -> employeeService.createEmployee(employeeDTO))
                 .isInstanceOf(DuplicateResourceException.class);
 
-        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the email query when the filter rules the email out")
+    void createEmployee_ShouldSkipEmailQueryWhenFilterSaysAbsent() {
+        when(emailFilter.mightContain("john@test.com")).thenReturn(false);
+        when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
+
+        employeeService.createEmployee(employeeDTO);
+
+        verify(employeeRepository, never()).existsByEmail(any());
+        verify(emailFilter).put("john@test.com");
+    }
+
+    @Test
+    @DisplayName("Should report a unique constraint violation as a duplicate email")
+    void createEmployee_ShouldMapConstraintViolationToDuplicate() {
+        when(emailFilter.mightContain("john@test.com")).thenReturn(false);
+        when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
+        when(employeeRepository.saveAndFlush(any(Employee.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("Duplicate entry",
+                                new SQLException("Duplicate entry 'john@test.com'", "23000"),
+                                "employees.uk_employees_email")));
+
+        assertThatThrownBy(() -> employeeService.createEmployee(employeeDTO))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("john@test.com");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should rethrow a constraint violation that is not the email constraint")
+    void createEmployee_ShouldRethrowOtherConstraintViolations() {
+        DataIntegrityViolationException foreignKey = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Cannot add or update a child row",
+                        new SQLException("Cannot add or update a child row", "23000"),
+                        "fk_employees_department"));
+        when(emailFilter.mightContain("john@test.com")).thenReturn(false);
+        when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenThrow(foreignKey);
+
+        assertThatThrownBy(() -> employeeService.createEmployee(employeeDTO)).isSameAs(foreignKey);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -171,12 +376,12 @@ class EmployeeServiceTest {
 
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
         when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
 
-        EmployeeDTO result = employeeService.updateEmployee(1L, updateDTO);
+        EmployeeDTO result = employeeService.updateEmployee(1L, updateDTO, null);
 
         assertThat(result).isNotNull();
-        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(employeeRepository, times(1)).saveAndFlush(any(Employee.class));
     }
 
     @Test
@@ -192,7 +397,7 @@ class EmployeeServiceTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
         when(employeeRepository.existsByEmail("different@test.com")).thenReturn(true);
 
-        assertThatThrownBy(() -> employeeService.updateEmployee(1L, updateDTO))
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, updateDTO, null))
                 .isInstanceOf(DuplicateResourceException.class);
     }
 
@@ -201,27 +406,296 @@ class EmployeeServiceTest {
     void updateEmployee_ShouldThrowNotFound() {
         when(employeeRepository.findById(99L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> employeeService.updateEmployee(99L, employeeDTO))
+        assertThatThrownBy(() -> employeeService.updateEmployee(99L, employeeDTO, null))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
-    @DisplayName("Should delete employee successfully")
-    void deleteEmployee_ShouldDeleteSuccessfully() {
+    @DisplayName("Should refuse an update whose version or If-Match is stale")
+    void updateEmployee_ShouldRejectStaleVersion() {
+        employee.setVersion(4L);
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
 
+        employeeDTO.setVersion(3L);
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, employeeDTO, null))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("version 4");
+        employeeDTO.setVersion(null);
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, employeeDTO, "\"employee-1-3\""))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(employeeRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should update when the version and If-Match are current")
+    void updateEmployee_ShouldAcceptCurrentVersion() {
+        employee.setVersion(4L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
+        when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+
+        employeeDTO.setVersion(4L);
+        employeeService.updateEmployee(1L, employeeDTO, "W/\"employee-1-4\"");
+
+        verify(employeeRepository).saveAndFlush(employee);
+    }
+
+    @Test
+    @DisplayName("Should treat a version in a patch as the expected version")
+    void patchEmployee_ShouldRejectStaleVersionMember() throws Exception {
+        employee.setVersion(4L);
+        when(employeeRepository.findWithDepartmentById(1L)).thenReturn(Optional.of(employee));
+
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L, patch("{\"salary\": 1, \"version\": 2}"), null))
+                .isInstanceOf(ConflictException.class);
+        verify(employeeRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should write only the salary on a salary patch, without email or department lookups")
+    void patchEmployee_ShouldUpdateOnlyChangedSalary() throws Exception {
+        when(employeeRepository.findWithDepartmentById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+        employee.setVersion(2L);
+        String etag = EtagRegistry.employeeTag(EmployeeDTO.builder().id(1L).version(2L).build());
+
+        EmployeeDTO result = employeeService.patchEmployee(1L, patch("{\"salary\": 90000}"), etag);
+
+        assertThat(result.getSalary()).isEqualByComparingTo("90000");
+        assertThat(employee.getFullName()).isEqualTo("John Smith");
+        verify(employeeRepository, never()).existsByEmail(any());
+        verify(departmentService, never()).getDepartmentEntity(any());
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should not write when the patch leaves every field unchanged")
+    void patchEmployee_ShouldSkipWriteWhenNothingChanges() throws Exception {
+        when(employeeRepository.findWithDepartmentById(1L)).thenReturn(Optional.of(employee));
+
+        EmployeeDTO result = employeeService.patchEmployee(1L,
+                patch("{\"salary\": 85000.00, \"email\": \"john@test.com\", \"departmentId\": 1}"), null);
+
+        assertThat(result.getSalary()).isEqualByComparingTo("85000");
+        verify(employeeRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(eventPublisher, departmentService);
+    }
+
+    @Test
+    @DisplayName("Should reject a patch whose If-Match no longer matches the employee")
+    void patchEmployee_ShouldThrowPreconditionFailedOnStaleEtag() throws Exception {
+        when(employeeRepository.findWithDepartmentById(1L)).thenReturn(Optional.of(employee));
+
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L, patch("{\"salary\": 90000}"),
+                "\"employee-1-7\""))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(employeeRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should reject fields that cannot be patched and values that fail validation")
+    void patchEmployee_ShouldRejectInvalidPatches() throws Exception {
+        when(employeeRepository.findWithDepartmentById(1L)).thenReturn(Optional.of(employee));
+
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L, patch("{\"id\": 7, \"createdAt\": null}"), null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("createdAt, id");
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L, patch("{\"fullName\": null}"), null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Full name is required");
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L, patch("{\"salary\": \"lots\"}"), null))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L, patch("[]"), null))
+                .isInstanceOf(BadRequestException.class);
+        verify(employeeRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should check the new email and look up the new department when they change")
+    void patchEmployee_ShouldCheckChangedEmailAndDepartment() throws Exception {
+        Department sales = Department.builder().id(2L).departmentName("Sales").build();
+        when(employeeRepository.findWithDepartmentById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.existsByEmail("john.smith@test.com")).thenReturn(false);
+        when(departmentService.getDepartmentEntity(2L)).thenReturn(sales);
+        when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+
+        EmployeeDTO result = employeeService.patchEmployee(1L,
+                patch("{\"email\": \"john.smith@test.com\", \"departmentId\": 2}"), null);
+
+        assertThat(result.getEmail()).isEqualTo("john.smith@test.com");
+        assertThat(result.getDepartmentName()).isEqualTo("Sales");
+        verify(emailFilter).put("john.smith@test.com");
+    }
+
+    @Test
+    @DisplayName("Should delete employee and its leave requests with set-based statements")
+    void deleteEmployee_ShouldDeleteSuccessfully() {
+        List<Long> ids = Collections.singletonList(1L);
+        when(employeeRepository.lockIds(ids)).thenReturn(ids);
+        when(employeeRepository.findAllWithDepartmentByIdIn(ids)).thenReturn(Collections.singletonList(employee));
+
         employeeService.deleteEmployee(1L);
 
-        verify(employeeRepository, times(1)).delete(employee);
+        InOrder inOrder = inOrder(leaveRequestRepository, employeeRepository);
+        inOrder.verify(leaveRequestRepository).deleteByEmployeeIdIn(ids);
+        inOrder.verify(employeeRepository).deleteByIdIn(ids);
+        verify(employeeRepository, never()).delete(any(Employee.class));
+        ArgumentCaptor<EmployeeChangedEvent> captor = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(ChangeType.DELETED);
+        assertThat(captor.getValue().getBefore().getEmail()).isEqualTo(employee.getEmail());
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent employee")
     void deleteEmployee_ShouldThrowNotFound() {
-        when(employeeRepository.findById(99L)).thenReturn(Optional.empty());
+        when(employeeRepository.lockIds(Collections.singletonList(99L))).thenReturn(Collections.emptyList());
 
         assertThatThrownBy(() -> employeeService.deleteEmployee(99L))
                 .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(leaveRequestRepository);
+    }
+
+    @Test
+    @DisplayName("Should delete the existing employees of a bulk request and report the missing ids")
+    void deleteEmployees_ShouldReportNotFound() {
+        when(employeeRepository.lockIds(any())).thenReturn(Collections.singletonList(1L));
+        when(employeeRepository.findAllWithDepartmentByIdIn(Collections.singletonList(1L)))
+                .thenReturn(Collections.singletonList(employee));
+
+        EmployeeDeleteResultDTO result = employeeService.deleteEmployees(Arrays.asList(1L, 99L, 1L));
+
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(result.getNotFound()).containsExactly(99L);
+        verify(employeeRepository).deleteByIdIn(Collections.singletonList(1L));
+        verify(eventPublisher, times(1)).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should publish a bulk delete as one batch event")
+    void deleteEmployees_ShouldPublishOneBatchEvent() {
+        Employee other = Employee.builder().id(2L).fullName("Jane Doe").email("jane@test.com")
+                .department(department).salary(new BigDecimal("60000")).build();
+        when(employeeRepository.lockIds(any())).thenReturn(Arrays.asList(1L, 2L));
+        when(employeeRepository.findAllWithDepartmentByIdIn(Arrays.asList(1L, 2L)))
+                .thenReturn(Arrays.asList(employee, other));
+
+        employeeService.deleteEmployees(Arrays.asList(1L, 2L));
+
+        ArgumentCaptor<EmployeeBatchChangedEvent> captor = ArgumentCaptor.forClass(EmployeeBatchChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertThat(captor.getValue().getChanges()).extracting(EmployeeChangedEvent::getEmployeeId)
+                .containsExactly(1L, 2L);
+        assertThat(captor.getValue().getChanges()).allMatch(change -> change.getType() == ChangeType.DELETED);
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk delete above the configured maximum")
+    void deleteEmployees_ShouldRejectOversizedBatch() {
+        ReflectionTestUtils.setField(employeeService, "maxDeleteBatchSize", 1);
+
+        assertThatThrownBy(() -> employeeService.deleteEmployees(Arrays.asList(1L, 2L)))
+                .isInstanceOf(BadRequestException.class);
+        verify(employeeRepository, never()).lockIds(any());
+    }
+
+    @Test
+    @DisplayName("Should delete a large department in chunks, leave requests before employees")
+    void deleteDepartmentEmployees_ShouldDeleteInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().collect(Collectors.toList());
+        when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
+        when(employeeRepository.lockIdsByDepartmentId(1L)).thenReturn(ids);
+
+        EmployeeDeleteResultDTO result = employeeService.deleteDepartmentEmployees(1L);
+
+        assertThat(result.getDeleted()).isEqualTo(2500);
+        assertThat(result.getNotFound()).isNull();
+        InOrder inOrder = inOrder(leaveRequestRepository, employeeRepository);
+        inOrder.verify(leaveRequestRepository).deleteByEmployeeIdIn(ids.subList(0, 1000));
+        inOrder.verify(employeeRepository).deleteByIdIn(ids.subList(0, 1000));
+        inOrder.verify(leaveRequestRepository).deleteByEmployeeIdIn(ids.subList(2000, 2500));
+        inOrder.verify(employeeRepository).deleteByIdIn(ids.subList(2000, 2500));
+        verify(employeeRepository, times(3)).deleteByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should move a department's employees with one update, one batch event and one batched notification")
+    void reassignEmployees_ShouldMoveByDepartment() {
+        Department sales = Department.builder().id(2L).departmentName("Sales").build();
+        Employee other = Employee.builder().id(2L).fullName("Jane Doe").email("jane@test.com")
+                .department(department).salary(new BigDecimal("60000")).build();
+        when(departmentService.getDepartmentEntity(2L)).thenReturn(sales);
+        when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
+        when(employeeRepository.lockIdsByDepartmentId(1L)).thenReturn(Arrays.asList(1L, 2L));
+        when(employeeRepository.findAllWithDepartmentByIdIn(Arrays.asList(1L, 2L)))
+                .thenReturn(Arrays.asList(employee, other));
+
+        EmployeeReassignResultDTO result =
+                employeeService.reassignEmployees(new EmployeeReassignDTO(null, 1L, 2L));
+
+        assertThat(result.getMoved()).isEqualTo(2);
+        assertThat(result.getNotFound()).isNull();
+        verify(employeeRepository).reassignDepartment(eq(Arrays.asList(1L, 2L)), eq(sales), any());
+        ArgumentCaptor<EmployeeBatchChangedEvent> events = ArgumentCaptor.forClass(EmployeeBatchChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(events.capture());
+        assertThat(events.getValue().getChanges()).hasSize(2);
+        assertThat(events.getValue().getChanges().get(1).getBefore().getDepartmentId()).isEqualTo(1L);
+        assertThat(events.getValue().getChanges().get(1).getAfter().getDepartmentName()).isEqualTo("Sales");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationDTO>> notifications = ArgumentCaptor.forClass((Class) List.class);
+        verify(notificationPublisher, times(1)).publishEmployeeTransferNotifications(notifications.capture());
+        assertThat(notifications.getValue()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should skip employees already in the target and report unknown ids")
+    void reassignEmployees_ShouldSkipEmployeesAlreadyInTarget() {
+        when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
+        when(employeeRepository.lockIds(any())).thenReturn(Collections.singletonList(1L));
+        when(employeeRepository.findAllWithDepartmentByIdIn(Collections.singletonList(1L)))
+                .thenReturn(Collections.singletonList(employee));
+
+        EmployeeReassignResultDTO result =
+                employeeService.reassignEmployees(new EmployeeReassignDTO(Arrays.asList(1L, 99L), null, 1L));
+
+        assertThat(result.getMoved()).isZero();
+        assertThat(result.getNotFound()).containsExactly(99L);
+        verify(employeeRepository, never()).reassignDepartment(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should require ids or a source department to reassign")
+    void reassignEmployees_ShouldRequireSelection() {
+        assertThatThrownBy(() -> employeeService.reassignEmployees(new EmployeeReassignDTO(null, null, 2L)))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should move every employee of the source department before deleting it")
+    void mergeDepartments_ShouldMoveThenDeleteSource() {
+        Department sales = Department.builder().id(2L).departmentName("Sales").build();
+        when(departmentService.getDepartmentEntity(2L)).thenReturn(sales);
+        when(employeeRepository.lockIdsByDepartmentId(1L)).thenReturn(Collections.singletonList(1L));
+        when(employeeRepository.findAllWithDepartmentByIdIn(Collections.singletonList(1L)))
+                .thenReturn(Collections.singletonList(employee));
+
+        int moved = employeeService.mergeDepartments(1L, 2L);
+
+        assertThat(moved).isEqualTo(1);
+        InOrder inOrder = inOrder(departmentService, employeeRepository);
+        inOrder.verify(departmentService).lockDepartment(1L);
+        inOrder.verify(employeeRepository).reassignDepartment(eq(Collections.singletonList(1L)), eq(sales), any());
+        inOrder.verify(departmentService).deleteEmptyDepartment(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject merging a department into itself")
+    void mergeDepartments_ShouldRejectSelfMerge() {
+        assertThatThrownBy(() -> employeeService.mergeDepartments(1L, 1L))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(departmentService);
     }
 
     @Test
@@ -239,7 +713,7 @@ class EmployeeServiceTest {
     void createEmployee_ShouldHandleNotificationFailure() {
         when(employeeRepository.existsByEmail("john@test.com")).thenReturn(false);
         when(departmentService.getDepartmentEntity(1L)).thenReturn(department);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
         doThrow(new RuntimeException("RabbitMQ down")).when(notificationPublisher).publishEmployeeNotification(any());
 
         EmployeeDTO result = employeeService.createEmployee(employeeDTO);
@@ -247,4 +721,8 @@ class EmployeeServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getFullName()).isEqualTo("John Smith");
     }
+
+    private JsonNode patch(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
 }
@@ -1,12 +1,17 @@
 package com.ems.employeemanagementsystem.service;
 
+import com.ems.employeemanagementsystem.dto.CursorSliceDTO;
 import com.ems.employeemanagementsystem.dto.LeaveRequestDTO;
+import com.ems.employeemanagementsystem.dto.LeaveStatusOutcomeDTO;
 import com.ems.employeemanagementsystem.dto.LeaveStatusUpdateDTO;
 import com.ems.employeemanagementsystem.entity.Department;
 import com.ems.employeemanagementsystem.entity.Employee;
 import com.ems.employeemanagementsystem.entity.LeaveRequest;
 import com.ems.employeemanagementsystem.entity.enums.LeaveStatus;
+import com.ems.employeemanagementsystem.event.LeaveBatchChangedEvent;
+import com.ems.employeemanagementsystem.event.LeaveChangedEvent;
 import com.ems.employeemanagementsystem.exception.BadRequestException;
+import com.ems.employeemanagementsystem.exception.ConflictException;
 import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.ems.employeemanagementsystem.messaging.NotificationPublisher;
 import com.ems.employeemanagementsystem.repository.LeaveRequestRepository;
@@ -17,17 +22,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +54,9 @@ class LeaveRequestServiceTest {
     @Mock
     private NotificationPublisher notificationPublisher;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LeaveRequestService leaveRequestService;
 
@@ -52,6 +67,9 @@ class LeaveRequestServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(leaveRequestService, "bulkMaxSize", 1000);
+        ReflectionTestUtils.setField(leaveRequestService, "maxPageSize", 100);
+
         department = Department.builder()
                 .id(1L)
                 .departmentName("Engineering")
@@ -112,45 +130,127 @@ class LeaveRequestServiceTest {
                 .hasMessageContaining("End date must be after start date");
     }
 
+    @Test
+    @DisplayName("Should bulk update pending requests and report per-id outcomes")
+    void updateLeaveStatuses_ShouldReportOutcomes() {
+        LeaveRequest approved = LeaveRequest.builder()
+                .id(2L).employee(employee)
+                .startDate(LocalDate.of(2024, 4, 1)).endDate(LocalDate.of(2024, 4, 2))
+                .status(LeaveStatus.APPROVED).build();
+        when(leaveRequestRepository.lockPendingIds(any())).thenReturn(Collections.singletonList(1L));
+        when(leaveRequestRepository.findAllWithEmployeeByIdIn(any())).thenReturn(Arrays.asList(leaveRequest, approved));
+
+        List<LeaveStatusOutcomeDTO> result =
+                leaveRequestService.updateLeaveStatuses(Arrays.asList(1L, 2L, 99L, 1L), LeaveStatus.REJECTED);
+
+        assertThat(result).extracting(LeaveStatusOutcomeDTO::getOutcome).containsExactly(
+                LeaveStatusOutcomeDTO.Outcome.UPDATED,
+                LeaveStatusOutcomeDTO.Outcome.NOT_PENDING,
+                LeaveStatusOutcomeDTO.Outcome.NOT_FOUND);
+        assertThat(result.get(1).getStatus()).isEqualTo(LeaveStatus.APPROVED);
+        verify(leaveRequestRepository).updateStatusWhereStatus(
+                new HashSet<>(Collections.singletonList(1L)), LeaveStatus.PENDING, LeaveStatus.REJECTED);
+        verify(notificationPublisher).publishLeaveStatusNotifications(
+                argThat(notifications -> notifications.size() == 1
+                        && "REJECTED".equals(notifications.get(0).getLeaveStatus())));
+    }
+
+    @Test
+    @DisplayName("Should publish a bulk decision as one batch event")
+    void updateLeaveStatuses_ShouldPublishOneBatchEvent() {
+        LeaveRequest second = LeaveRequest.builder()
+                .id(2L).employee(employee)
+                .startDate(LocalDate.of(2024, 4, 1)).endDate(LocalDate.of(2024, 4, 2))
+                .status(LeaveStatus.PENDING).build();
+        when(leaveRequestRepository.lockPendingIds(any())).thenReturn(Arrays.asList(1L, 2L));
+        when(leaveRequestRepository.findAllWithEmployeeByIdIn(any())).thenReturn(Arrays.asList(leaveRequest, second));
+
+        leaveRequestService.updateLeaveStatuses(Arrays.asList(1L, 2L), LeaveStatus.APPROVED);
+
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof LeaveBatchChangedEvent
+                && ((LeaveBatchChangedEvent) event).getChanges().size() == 2));
+    }
+
+    @Test
+    @DisplayName("Should reject bulk updates back to PENDING")
+    void updateLeaveStatuses_ShouldRejectPendingTarget() {
+        assertThatThrownBy(() -> leaveRequestService.updateLeaveStatuses(
+                Collections.singletonList(1L), LeaveStatus.PENDING))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(leaveRequestRepository);
+    }
+
+    @Test
+    @DisplayName("Should page the pending inbox with a cursor taken from the last row")
+    void getPendingLeaves_ShouldContinueFromCursor() {
+        leaveRequest.setCreatedAt(LocalDateTime.of(2024, 3, 1, 9, 30, 15));
+        when(leaveRequestRepository.findByStatusAfter(eq(LeaveStatus.PENDING), any(), any(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(leaveRequest), PageRequest.of(0, 1), true));
+
+        CursorSliceDTO<LeaveRequestDTO> first = leaveRequestService.getPendingLeaves(null, null, null, null, 1);
+
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+
+        leaveRequestService.getPendingLeaves(null, null, null, first.getNextCursor(), 1);
+
+        verify(leaveRequestRepository).findByStatusAfter(eq(LeaveStatus.PENDING),
+                eq(LocalDateTime.of(2024, 3, 1, 9, 30, 15)), eq(1L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should filter the pending inbox by department")
+    void getPendingLeaves_ShouldFilterByDepartment() {
+        when(leaveRequestRepository.findByStatusAndDepartmentAfter(eq(LeaveStatus.PENDING), eq(1L), any(), any(),
+                eq(LocalDate.of(2024, 3, 1)), eq(LocalDate.of(2024, 3, 31)), any()))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(leaveRequest), PageRequest.of(0, 20), false));
+
+        CursorSliceDTO<LeaveRequestDTO> result = leaveRequestService.getPendingLeaves(
+                1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), null, 20);
+
+        assertThat(result.getContent()).extracting(LeaveRequestDTO::getId).containsExactly(1L);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed inbox cursor")
+    void getPendingLeaves_ShouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> leaveRequestService.getPendingLeaves(null, null, null, "not-a-cursor", 20))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("cursor");
+        verifyNoInteractions(leaveRequestRepository);
+    }
+
     @Test
     @DisplayName("Should update leave status to APPROVED")
     void updateLeaveStatus_ShouldApprove() {
         LeaveStatusUpdateDTO statusUpdate = new LeaveStatusUpdateDTO(LeaveStatus.APPROVED);
-        when(leaveRequestRepository.findById(1L)).thenReturn(Optional.of(leaveRequest));
-
-        LeaveRequest approvedRequest = LeaveRequest.builder()
-                .id(1L)
-                .employee(employee)
-                .startDate(LocalDate.of(2024, 3, 15))
-                .endDate(LocalDate.of(2024, 3, 20))
-                .status(LeaveStatus.APPROVED)
-                .reason("Vacation")
-                .createdAt(LocalDateTime.now())
-                .build();
-        when(leaveRequestRepository.save(any(LeaveRequest.class))).thenReturn(approvedRequest);
+        leaveRequest.setStatus(LeaveStatus.APPROVED);
+        when(leaveRequestRepository.updateStatusWhereStatus(
+                Collections.singleton(1L), LeaveStatus.PENDING, LeaveStatus.APPROVED)).thenReturn(1);
+        when(leaveRequestRepository.findAllWithEmployeeByIdIn(Collections.singleton(1L)))
+                .thenReturn(Collections.singletonList(leaveRequest));
 
         LeaveRequestDTO result = leaveRequestService.updateLeaveStatus(1L, statusUpdate);
 
         assertThat(result.getStatus()).isEqualTo(LeaveStatus.APPROVED);
+        verify(leaveRequestRepository, never()).save(any(LeaveRequest.class));
         verify(notificationPublisher, times(1)).publishLeaveStatusNotification(any());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof LeaveChangedEvent
+                && ((LeaveChangedEvent) event).getDepartmentId().equals(1L)
+                && ((LeaveChangedEvent) event).getLeave().getStatus() == LeaveStatus.APPROVED));
     }
 
     @Test
     @DisplayName("Should update leave status to REJECTED")
     void updateLeaveStatus_ShouldReject() {
         LeaveStatusUpdateDTO statusUpdate = new LeaveStatusUpdateDTO(LeaveStatus.REJECTED);
-        when(leaveRequestRepository.findById(1L)).thenReturn(Optional.of(leaveRequest));
-
-        LeaveRequest rejectedRequest = LeaveRequest.builder()
-                .id(1L)
-                .employee(employee)
-                .startDate(LocalDate.of(2024, 3, 15))
-                .endDate(LocalDate.of(2024, 3, 20))
-                .status(LeaveStatus.REJECTED)
-                .reason("Vacation")
-                .createdAt(LocalDateTime.now())
-                .build();
-        when(leaveRequestRepository.save(any(LeaveRequest.class))).thenReturn(rejectedRequest);
+        leaveRequest.setStatus(LeaveStatus.REJECTED);
+        when(leaveRequestRepository.updateStatusWhereStatus(
+                Collections.singleton(1L), LeaveStatus.PENDING, LeaveStatus.REJECTED)).thenReturn(1);
+        when(leaveRequestRepository.findAllWithEmployeeByIdIn(Collections.singleton(1L)))
+                .thenReturn(Collections.singletonList(leaveRequest));
 
         LeaveRequestDTO result = leaveRequestService.updateLeaveStatus(1L, statusUpdate);
 
@@ -168,15 +268,16 @@ class LeaveRequestServiceTest {
     }
 
     @Test
-    @DisplayName("Should throw exception when updating non-PENDING leave")
-    void updateLeaveStatus_ShouldThrowForNonPending() {
+    @DisplayName("Should report a conflict when the leave was already decided")
+    void updateLeaveStatus_ShouldThrowConflictForNonPending() {
         leaveRequest.setStatus(LeaveStatus.APPROVED);
         when(leaveRequestRepository.findById(1L)).thenReturn(Optional.of(leaveRequest));
 
         assertThatThrownBy(() -> leaveRequestService.updateLeaveStatus(1L,
                 new LeaveStatusUpdateDTO(LeaveStatus.REJECTED)))
-                .isInstanceOf(BadRequestException.class)
-                .hasMessageContaining("PENDING");
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("APPROVED");
+        verifyNoInteractions(notificationPublisher);
     }
 
     @Test
@@ -215,18 +316,11 @@ class LeaveRequestServiceTest {
     @DisplayName("Should handle notification failure gracefully during status update")
     void updateLeaveStatus_ShouldHandleNotificationFailure() {
         LeaveStatusUpdateDTO statusUpdate = new LeaveStatusUpdateDTO(LeaveStatus.APPROVED);
-        when(leaveRequestRepository.findById(1L)).thenReturn(Optional.of(leaveRequest));
-
-        LeaveRequest approvedRequest = LeaveRequest.builder()
-                .id(1L)
-                .employee(employee)
-                .startDate(LocalDate.of(2024, 3, 15))
-                .endDate(LocalDate.of(2024, 3, 20))
-                .status(LeaveStatus.APPROVED)
-                .reason("Vacation")
-                .createdAt(LocalDateTime.now())
-                .build();
-        when(leaveRequestRepository.save(any(LeaveRequest.class))).thenReturn(approvedRequest);
+        leaveRequest.setStatus(LeaveStatus.APPROVED);
+        when(leaveRequestRepository.updateStatusWhereStatus(
+                Collections.singleton(1L), LeaveStatus.PENDING, LeaveStatus.APPROVED)).thenReturn(1);
+        when(leaveRequestRepository.findAllWithEmployeeByIdIn(Collections.singleton(1L)))
+                .thenReturn(Collections.singletonList(leaveRequest));
         doThrow(new RuntimeException("RabbitMQ down")).when(notificationPublisher)
                 .publishLeaveStatusNotification(any());
 
@@ -1,5 +1,6 @@
 package com.ems.employeemanagementsystem.service;
 
+import com.ems.employeemanagementsystem.config.RabbitMQConfig;
 import com.ems.employeemanagementsystem.dto.NotificationDTO;
 import com.ems.employeemanagementsystem.messaging.NotificationPublisher;
 import org.junit.jupiter.api.DisplayName;
@@ -9,9 +10,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.mockito.ArgumentCaptor;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -102,4 +111,45 @@ class NotificationPublisherTest {
         // Should not throw exception
         notificationPublisher.publishLeaveStatusNotification(notification);
     }
+
+    @Test
+    @DisplayName("Should publish many leave notifications as one batch message the container can split")
+    void publishLeaveStatusNotifications_ShouldSendOneBatch() {
+        ReflectionTestUtils.setField(notificationPublisher, "exchangeName", "test.exchange");
+        ReflectionTestUtils.setField(notificationPublisher, "leaveRoutingKey", "test.leave.key");
+        when(rabbitTemplate.getMessageConverter()).thenReturn(new RabbitMQConfig().jsonMessageConverter());
+
+        List<NotificationDTO> notifications = Arrays.asList(
+                NotificationDTO.builder().requestId(1L).leaveStatus("APPROVED").build(),
+                NotificationDTO.builder().requestId(2L).leaveStatus("APPROVED").build(),
+                NotificationDTO.builder().requestId(3L).leaveStatus("APPROVED").build());
+
+        notificationPublisher.publishLeaveStatusNotifications(notifications);
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(1)).send(eq("test.exchange"), eq("test.leave.key"), sent.capture());
+
+        SimpleBatchingStrategy strategy = new SimpleBatchingStrategy(0, 0, 0L);
+        assertThat(strategy.canDebatch(sent.getValue().getMessageProperties())).isTrue();
+        List<Message> fragments = new ArrayList<>();
+        strategy.deBatch(sent.getValue(), fragments::add);
+        assertThat(fragments).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should publish transfer notifications as one batch on the employee routing key")
+    void publishEmployeeTransferNotifications_ShouldSendOneBatch() {
+        ReflectionTestUtils.setField(notificationPublisher, "exchangeName", "test.exchange");
+        ReflectionTestUtils.setField(notificationPublisher, "employeeRoutingKey", "test.employee.key");
+        when(rabbitTemplate.getMessageConverter()).thenReturn(new RabbitMQConfig().jsonMessageConverter());
+
+        List<NotificationDTO> notifications = Arrays.asList(
+                NotificationDTO.builder().employeeId(1L).department("Sales").build(),
+                NotificationDTO.builder().employeeId(2L).department("Sales").build());
+
+        notificationPublisher.publishEmployeeTransferNotifications(notifications);
+
+        verify(rabbitTemplate, times(1)).send(eq("test.exchange"), eq("test.employee.key"), any(Message.class));
+        assertThat(notifications).allMatch(n -> "EMPLOYEE_TRANSFERRED".equals(n.getType()));
+    }
 }
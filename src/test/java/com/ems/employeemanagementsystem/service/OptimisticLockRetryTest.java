@@ -0,0 +1,84 @@
+package com.ems.employeemanagementsystem.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticLockRetryTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should rerun the work in a new transaction after a version conflict")
+    void execute_ShouldRetryOnOptimisticLockFailure() {
+        OptimisticLockRetry retry = new OptimisticLockRetry(transactionManager, 3, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retry.execute("test-job", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Employee", 1L);
+            }
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(calls).hasValue(3);
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should give up with the conflict after the last attempt")
+    void execute_ShouldRethrowAfterMaxAttempts() {
+        OptimisticLockRetry retry = new OptimisticLockRetry(transactionManager, 2, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run("test-job", () -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Employee", 1L);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not retry other failures")
+    void execute_ShouldNotRetryOtherExceptions() {
+        OptimisticLockRetry retry = new OptimisticLockRetry(transactionManager, 3, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run("test-job", () -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("bad input");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse to run inside an existing transaction")
+    void execute_ShouldRejectActiveTransaction() {
+        OptimisticLockRetry retry = new OptimisticLockRetry(transactionManager, 3, 0);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> retry.run("test-job", () -> { }))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verifyNoInteractions(transactionManager);
+    }
+}
@@ -0,0 +1,175 @@
+package com.ems.employeemanagementsystem.service;
+
+import com.ems.employeemanagementsystem.dto.DepartmentPayrollDTO;
+import com.ems.employeemanagementsystem.dto.EmployeeDTO;
+import com.ems.employeemanagementsystem.dto.MonthlyCountDTO;
+import com.ems.employeemanagementsystem.dto.PayrollSummaryDTO;
+import com.ems.employeemanagementsystem.entity.Department;
+import com.ems.employeemanagementsystem.event.ChangeType;
+import com.ems.employeemanagementsystem.event.EmployeeChangedEvent;
+import com.ems.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.ems.employeemanagementsystem.exception.ServiceUnavailableException;
+import com.ems.employeemanagementsystem.repository.DepartmentRepository;
+import com.ems.employeemanagementsystem.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PayrollAnalyticsTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    private PayrollAnalytics payrollAnalytics;
+
+    @BeforeEach
+    void setUp() {
+        payrollAnalytics = new PayrollAnalytics(employeeRepository, departmentRepository, 3, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        payrollAnalytics.shutdown();
+    }
+
+    private void load() {
+        when(departmentRepository.findAll()).thenReturn(Arrays.asList(
+                Department.builder().id(1L).departmentName("Engineering").build(),
+                Department.builder().id(2L).departmentName("Sales").build(),
+                Department.builder().id(3L).departmentName("Legal").build()));
+        when(employeeRepository.findAnalyticsFieldsAfter(eq(0L), any())).thenReturn(Arrays.asList(
+                new Object[]{1L, 1L, new BigDecimal("100000.00"), LocalDate.of(2024, 1, 10)},
+                new Object[]{2L, 1L, new BigDecimal("80000.00"), LocalDate.of(2024, 1, 20)},
+                new Object[]{3L, 1L, new BigDecimal("90000.50"), LocalDate.of(2024, 3, 1)}));
+        when(employeeRepository.findAnalyticsFieldsAfter(eq(3L), any())).thenReturn(Arrays.asList(
+                new Object[]{4L, 1L, new BigDecimal("70000.00"), null},
+                new Object[]{5L, 2L, new BigDecimal("50000.00"), LocalDate.of(2024, 2, 5)},
+                new Object[]{6L, 2L, null, LocalDate.of(2024, 3, 7)}));
+        when(employeeRepository.findAnalyticsFieldsAfter(eq(6L), any())).thenReturn(Collections.emptyList());
+        payrollAnalytics.load();
+    }
+
+    @Test
+    @DisplayName("Should refuse to answer before the columns are loaded")
+    void payrollSummary_ShouldRequireLoad() {
+        assertThatThrownBy(() -> payrollAnalytics.payrollSummary())
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should compute headcount and salary statistics per department and company-wide")
+    void payrollSummary_ShouldAggregate() {
+        load();
+
+        PayrollSummaryDTO summary = payrollAnalytics.payrollSummary();
+
+        DepartmentPayrollDTO company = summary.getCompany();
+        assertThat(company.getHeadcount()).isEqualTo(6);
+        assertThat(company.getTotalSalary()).isEqualByComparingTo("390000.50");
+        assertThat(company.getMeanSalary()).isEqualByComparingTo("78000.10");
+        assertThat(company.getMedianSalary()).isEqualByComparingTo("80000.00");
+        assertThat(company.getP90Salary()).isEqualByComparingTo("100000.00");
+
+        assertThat(summary.getDepartments()).extracting(DepartmentPayrollDTO::getDepartmentName)
+                .containsExactly("Engineering", "Sales", "Legal");
+        DepartmentPayrollDTO engineering = summary.getDepartments().get(0);
+        assertThat(engineering.getHeadcount()).isEqualTo(4);
+        assertThat(engineering.getMedianSalary()).isEqualByComparingTo("85000.25");
+        assertThat(engineering.getP90Salary()).isEqualByComparingTo("100000.00");
+        DepartmentPayrollDTO sales = summary.getDepartments().get(1);
+        assertThat(sales.getHeadcount()).isEqualTo(2);
+        assertThat(sales.getMeanSalary()).isEqualByComparingTo("50000.00");
+        DepartmentPayrollDTO legal = summary.getDepartments().get(2);
+        assertThat(legal.getHeadcount()).isZero();
+        assertThat(legal.getTotalSalary()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should follow committed moves and deletes")
+    void onEmployeeChanged_ShouldUpdateColumns() {
+        load();
+        EmployeeDTO moved = EmployeeDTO.builder().id(1L).departmentId(3L)
+                .salary(new BigDecimal("120000")).joiningDate(LocalDate.of(2024, 1, 10)).build();
+        payrollAnalytics.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.UPDATED, 1L, null, moved));
+        payrollAnalytics.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.DELETED, 5L, null, null));
+
+        PayrollSummaryDTO summary = payrollAnalytics.payrollSummary();
+
+        assertThat(summary.getCompany().getHeadcount()).isEqualTo(5);
+        assertThat(summary.getDepartments()).extracting(DepartmentPayrollDTO::getHeadcount).containsExactly(3L, 1L, 1L);
+        assertThat(summary.getDepartments().get(2).getTotalSalary()).isEqualByComparingTo("120000.00");
+        assertThat(summary.getDepartments().get(1).getTotalSalary()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count joiners per month, including empty months")
+    void joinersPerMonth_ShouldCountByMonth() {
+        load();
+
+        List<MonthlyCountDTO> company = payrollAnalytics.joinersPerMonth(null, YearMonth.of(2023, 12), YearMonth.of(2024, 3));
+        List<MonthlyCountDTO> engineering = payrollAnalytics.joinersPerMonth(1L, YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+
+        assertThat(company).extracting(MonthlyCountDTO::getMonth).containsExactly("2023-12", "2024-01", "2024-02", "2024-03");
+        assertThat(company).extracting(MonthlyCountDTO::getCount).containsExactly(0L, 2L, 1L, 2L);
+        assertThat(engineering).extracting(MonthlyCountDTO::getCount).containsExactly(2L, 0L, 1L);
+        assertThatThrownBy(() -> payrollAnalytics.joinersPerMonth(99L, null, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should report the same median and p90 as a full sort, across loads and writes")
+    void payrollSummary_ShouldMatchSortedQuantiles() {
+        Random random = new Random(7);
+        List<Object[]> rows = new ArrayList<>();
+        List<Long> expected = new ArrayList<>();
+        for (long id = 1; id <= 301; id++) {
+            long cents = random.nextInt(5000);
+            rows.add(new Object[]{id, 1L + random.nextInt(3), BigDecimal.valueOf(cents, 2), null});
+            if (id != 5) {
+                expected.add(cents);
+            }
+        }
+        when(employeeRepository.findAnalyticsFieldsAfter(eq(0L), any())).thenReturn(rows);
+        payrollAnalytics = new PayrollAnalytics(employeeRepository, departmentRepository, 1000, 2);
+        payrollAnalytics.load();
+        for (long id = 302; id <= 350; id++) {
+            long cents = random.nextInt(5000);
+            expected.add(cents);
+            EmployeeDTO created = EmployeeDTO.builder().id(id).departmentId(1L).salary(BigDecimal.valueOf(cents, 2)).build();
+            payrollAnalytics.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.CREATED, id, null, created));
+        }
+        payrollAnalytics.onEmployeeChanged(new EmployeeChangedEvent(ChangeType.DELETED, 5L, null, null));
+
+        DepartmentPayrollDTO company = payrollAnalytics.payrollSummary().getCompany();
+
+        Collections.sort(expected);
+        int n = expected.size();
+        assertThat(company.getHeadcount()).isEqualTo(n);
+        assertThat(company.getMedianSalary()).isEqualByComparingTo(BigDecimal.valueOf(expected.get(n / 2), 2));
+        assertThat(company.getP90Salary())
+                .isEqualByComparingTo(BigDecimal.valueOf(expected.get((int) Math.ceil(n * 0.9) - 1), 2));
+    }
+}